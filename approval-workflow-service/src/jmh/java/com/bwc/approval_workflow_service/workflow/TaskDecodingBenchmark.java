@@ -0,0 +1,93 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tree + Map decoding (the previous /v1/tasks/search path) versus the one-pass {@link TasklistTaskDecoder}.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.includes=TaskDecodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskDecodingBenchmark {
+
+    @Param({"100"})
+    public int tasks;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private TasklistTaskDecoder decoder;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        decoder = new TasklistTaskDecoder(objectMapper);
+        payload = searchResponse(tasks);
+    }
+
+    @Benchmark
+    public List<TaskDTO> treeAndMap() throws Exception {
+        JsonNode resp = objectMapper.readTree(payload);
+        List<Map<String, Object>> items = objectMapper.convertValue(resp, new TypeReference<>() {});
+        return items.stream().map(TaskMapper::mapToTaskDTO).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<TaskDTO> streaming() {
+        return decoder.decode(payload).tasks();
+    }
+
+    // Shape of a Tasklist 8.5 /v1/tasks/search response with the variables the inbox asks for
+    static byte[] searchResponse(int count) {
+        StringBuilder json = new StringBuilder(count * 900).append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) json.append(',');
+            long key = 2251799813685249L + i;
+            boolean completed = i % 3 == 0;
+            json.append("{\"id\":\"").append(key).append('"')
+                    .append(",\"name\":\"Manager Approval\"")
+                    .append(",\"taskDefinitionId\":\"Activity_ManagerApproval\"")
+                    .append(",\"processName\":\"Travel Request Approval\"")
+                    .append(",\"creationDate\":\"2025-03-1").append(i % 10).append("T09:15:42.123+0000\"")
+                    .append(",\"completionDate\":").append(completed ? "\"2025-03-20T11:02:07.456+0000\"" : "null")
+                    .append(",\"assignee\":\"").append(i % 2 == 0 ? "8d6f1a62-4a1e-4b7e-9c77-0c0a2f3e1b55" : "").append('"')
+                    .append(",\"taskState\":\"").append(completed ? "COMPLETED" : "CREATED").append('"')
+                    .append(",\"sortValues\":[\"").append(1741598142123L + i).append("\",\"").append(key).append("\"]")
+                    .append(",\"isFirst\":false,\"formKey\":null,\"formId\":null,\"formVersion\":null,\"isFormEmbedded\":null")
+                    .append(",\"processDefinitionKey\":\"2251799813685100\"")
+                    .append(",\"processInstanceKey\":\"").append(key - 7).append('"')
+                    .append(",\"tenantId\":\"<default>\",\"dueDate\":null,\"followUpDate\":null")
+                    .append(",\"candidateGroups\":[\"managers\"],\"candidateUsers\":null,\"implementation\":\"ZEEBE_USER_TASK\",\"priority\":50")
+                    .append(",\"variables\":[")
+                    .append("{\"id\":\"").append(key).append("-employeeId\",\"name\":\"employeeId\",\"value\":\"\\\"e1a5c7de-2f0b-4d39-8a51-9b7b0c6d").append(String.format("%04d", i)).append("\\\"\",\"isValueTruncated\":false,\"previewValue\":\"\\\"e1a5\\\"\"}")
+                    .append(",{\"id\":\"").append(key).append("-travelRequestId\",\"name\":\"travelRequestId\",\"value\":\"\\\"TR-").append(1000 + i).append("\\\"\",\"isValueTruncated\":false,\"previewValue\":\"\\\"TR\\\"\"}")
+                    .append(",{\"id\":\"").append(key).append("-estimatedCost\",\"name\":\"estimatedCost\",\"value\":").append(1500 + i * 17).append(",\"isValueTruncated\":false,\"previewValue\":\"1500\"}")
+                    .append(",{\"id\":\"").append(key).append("-managerApproved\",\"name\":\"managerApproved\",\"value\":").append(i % 2 == 0).append(",\"isValueTruncated\":false,\"previewValue\":\"true\"}")
+                    .append("]}");
+        }
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
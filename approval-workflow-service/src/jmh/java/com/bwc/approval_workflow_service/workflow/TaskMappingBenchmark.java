@@ -0,0 +1,106 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+
+/**
+ * Per-task mapping hot path over the recorded Tasklist fixtures (100 open + 100 completed tasks).
+ * Each operation processes the whole fixture set; run with -prof gc (the profile default) to track allocation.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Djmh.includes=TaskMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private List<Map<String, Object>> items;
+    private List<String> dates;
+    private List<Object> rawVariables;
+    private List<Object> variableValues;
+    private List<TaskDTO> assigneeCompleted;
+    private List<TaskDTO> groupCompleted;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(TasklistFixtures.items(TasklistFixtures.CREATED));
+        items.addAll(TasklistFixtures.items(TasklistFixtures.COMPLETED));
+
+        dates = new ArrayList<>();
+        rawVariables = new ArrayList<>();
+        variableValues = new ArrayList<>();
+        for (Map<String, Object> item : items) {
+            if (item.get("creationDate") instanceof String created) dates.add(created);
+            if (item.get("completionDate") instanceof String completed) dates.add(completed);
+            Object raw = item.get("variables");
+            rawVariables.add(raw);
+            if (raw instanceof List<?> list) {
+                for (Object variable : list) {
+                    if (variable instanceof Map<?, ?> map) variableValues.add(map.get("value"));
+                }
+            }
+        }
+
+        // The inbox merges the assignee and "managers" group searches, which overlap on every assigned task
+        groupCompleted = TasklistFixtures.items(TasklistFixtures.COMPLETED).stream()
+                .map(TaskMapper::mapToTaskDTO)
+                .toList();
+        assigneeCompleted = groupCompleted.stream()
+                .filter(t -> t.getAssignee() != null && t.getAssignee().equals(groupCompleted.get(0).getAssignee()))
+                .toList();
+    }
+
+    @Benchmark
+    public void mapToTaskDTO(Blackhole bh) {
+        for (Map<String, Object> item : items) {
+            bh.consume(TaskMapper.mapToTaskDTO(item));
+        }
+    }
+
+    @Benchmark
+    public void parseDateTimeSafe(Blackhole bh) {
+        for (String date : dates) {
+            bh.consume(TaskMapper.parseDateTimeSafe(date));
+        }
+    }
+
+    @Benchmark
+    public void extractVariablesFromRaw(Blackhole bh) {
+        for (Object raw : rawVariables) {
+            bh.consume(TaskMapper.extractVariablesFromRaw(raw));
+        }
+    }
+
+    @Benchmark
+    public void cleanVariableValue(Blackhole bh) {
+        for (Object value : variableValues) {
+            bh.consume(TaskMapper.cleanVariableValue(value));
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> dedupeCompleted() {
+        List<TaskDTO> all = new ArrayList<>(assigneeCompleted.size() + groupCompleted.size());
+        all.addAll(assigneeCompleted);
+        all.addAll(groupCompleted);
+        return EnhancedUserTaskService.dedupeNewestFirst(all);
+    }
+}
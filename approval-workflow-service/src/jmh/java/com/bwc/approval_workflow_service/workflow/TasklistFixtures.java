@@ -0,0 +1,44 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tasklist /v1/tasks/search responses kept under src/jmh/resources/fixtures.
+ * Both fixtures hold 100 "Manager Approval" tasks with the variables the inbox query includes.
+ */
+final class TasklistFixtures {
+
+    static final String CREATED = "fixtures/tasklist-search-created.json";
+    static final String COMPLETED = "fixtures/tasklist-search-completed.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private TasklistFixtures() {
+    }
+
+    static byte[] bytes(String fixture) {
+        try (InputStream in = TasklistFixtures.class.getClassLoader().getResourceAsStream(fixture)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing fixture " + fixture);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static List<Map<String, Object>> items(String fixture) {
+        try {
+            return MAPPER.readValue(bytes(fixture), new TypeReference<>() {});
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.bwc.approval_workflow_service.client;
 
 import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.dto.OrgChartEntryDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.UUID;
@@ -16,4 +20,14 @@ public interface EmployeeServiceClient {
     
     @GetMapping("/api/v1/employees/proxy/by-role")
     java.util.List<EmployeeProxyDTO> getEmployeesByRole(@RequestParam("role") String role);
+
+    // Unknown IDs are left out of the result
+    @PostMapping("/api/v1/employees/proxy/batch")
+    java.util.List<EmployeeProxyDTO> getEmployees(@RequestBody java.util.List<UUID> ids);
+
+    // Whole org chart when updatedSince is null, otherwise rows changed at or after it
+    @GetMapping("/api/v1/employees/proxy/org-chart")
+    java.util.List<OrgChartEntryDTO> getOrgChart(
+            @RequestParam(value = "updatedSince", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) java.time.LocalDateTime updatedSince);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bwc.approval_workflow_service.client;
+
+import com.bwc.approval_workflow_service.dto.PolicyTableEntryDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.util.List;
+
+@FeignClient(name = "policy-service", url = "${services.policy.url}")
+public interface PolicyServiceClient {
+
+    // One row per (city, grade) of every active policy
+    @GetMapping("/api/policies/active/table")
+    List<PolicyTableEntryDTO> getActivePolicyTable();
+}
@@ -0,0 +1,39 @@
+package com.bwc.approval_workflow_service.config;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.workflow.TaskEnrichmentCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code /actuator/taskcaches} – inspect and clear the task enrichment caches.
+ */
+@Component
+@Endpoint(id = "taskcaches")
+@RequiredArgsConstructor
+public class TaskCacheEndpoint {
+
+    private final TaskEnrichmentCache enrichmentCache;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> caches() {
+        return enrichmentCache.describe();
+    }
+
+    @DeleteOperation
+    public void clearAll() {
+        enrichmentCache.clearAll();
+    }
+
+    @DeleteOperation
+    public boolean clear(@Selector String name) {
+        return enrichmentCache.clear(name);
+    }
+}
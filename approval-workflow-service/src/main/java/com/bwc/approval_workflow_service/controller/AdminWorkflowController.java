@@ -2,14 +2,26 @@ package com.bwc.approval_workflow_service.controller;
 
 import com.bwc.approval_workflow_service.dto.TaskDTO;
 import com.bwc.approval_workflow_service.dto.UserTasksResponse;
+import com.bwc.approval_workflow_service.workflow.ApprovalLatencyHistograms;
+import com.bwc.approval_workflow_service.workflow.DashboardSnapshotService;
 import com.bwc.approval_workflow_service.workflow.EnhancedUserTaskService;
+import com.bwc.approval_workflow_service.workflow.SlaBreachTracker;
+import com.bwc.approval_workflow_service.workflow.TaskMapper;
+import com.bwc.approval_workflow_service.workflow.TopPendingRequesters;
+import com.bwc.approval_workflow_service.workflow.WorkflowRollups;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
@@ -23,35 +35,22 @@ import java.util.stream.Collectors;
 public class AdminWorkflowController {
 
     private final EnhancedUserTaskService userTaskService;
+    private final WorkflowRollups rollups;
+    private final SlaBreachTracker slaBreachTracker;
+    private final DashboardSnapshotService dashboardSnapshots;
+    private final ApprovalLatencyHistograms latencyHistograms;
+    private final TopPendingRequesters topPendingRequesters;
 
-    // ✅ 1️⃣ — Organization Summary
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    // Export rows requested from Tasklist ahead of the writer
+    private static final int EXPORT_PREFETCH = 100;
+
+    // ✅ 1️⃣ — Organization Summary (background snapshot)
     @GetMapping("/summary")
     public Map<String, Object> getWorkflowSummary() {
         try {
-            List<String> roles = List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK");
-            Map<String, Object> summary = new LinkedHashMap<>();
-            long totalPending = 0, totalCompleted = 0;
-
-            for (String role : roles) {
-                UserTasksResponse tasks = userTaskService.getUserTasksWithHistory("00000000-0000-0000-0000-000000000000", role);
-                long pending = tasks.getPendingTasks().size();
-                long completed = tasks.getCompletedTasks().size();
-                totalPending += pending;
-                totalCompleted += completed;
-
-                summary.put(role, Map.of(
-                        "pending", pending,
-                        "completed", completed
-                ));
-            }
-
-            summary.put("organizationTotals", Map.of(
-                    "totalPending", totalPending,
-                    "totalCompleted", totalCompleted,
-                    "timestamp", LocalDateTime.now()
-            ));
-
-            return summary;
+            DashboardSnapshotService.Snapshot snapshot = dashboardSnapshots.snapshot();
+            return dashboardSnapshots.withFreshness(snapshot.summary(), snapshot);
         } catch (Exception e) {
             log.error("❌ Summary failed: {}", e.getMessage(), e);
             return Map.of("error", e.getMessage());
@@ -71,15 +70,14 @@ public class AdminWorkflowController {
                     .filter(v -> v > 0)
                     .average().orElse(0);
 
-            long slaBreaches = tasks.getPendingTasks().stream()
-                    .filter(t -> t.getDueDate() != null && t.getDueDate().isBefore(LocalDateTime.now()))
-                    .count();
+            long slaBreaches = slaBreachTracker.breachCount(role.toUpperCase());
 
             return Map.of(
                     "role", role,
                     "pending", pending,
                     "completed", completed,
                     "avgApprovalTimeMinutes", Math.round(avgApprovalTime),
+                    "approvalTimePercentiles", latencyHistograms.query(role, null, latencyHistograms.retainedWindow()),
                     "slaBreaches", slaBreaches,
                     "timestamp", LocalDateTime.now()
             );
@@ -89,52 +87,33 @@ public class AdminWorkflowController {
         }
     }
 
-    // ✅ 3️⃣ — Auto-Approval Analytics
+    // ✅ 3️⃣ — Auto-Approval Analytics (background snapshot)
     @GetMapping("/auto-approvals")
     public Map<String, Object> getAutoApprovals() {
         try {
-            UserTasksResponse mgrTasks = userTaskService.getUserTasksWithHistory("00000000-0000-0000-0000-000000000000", "MANAGER");
-
-            List<TaskDTO> autoApproved = mgrTasks.getCompletedTasks().stream()
-                    .filter(t -> Boolean.parseBoolean(
-                            String.valueOf(t.getVariables().getOrDefault("managerAutoApproved", false))
-                    ))
-                    .collect(Collectors.toList());
-
-            double percent = mgrTasks.getCompletedTasks().isEmpty()
-                    ? 0 : (autoApproved.size() * 100.0 / mgrTasks.getCompletedTasks().size());
-
-            return Map.of(
-                    "autoApprovedCount", autoApproved.size(),
-                    "totalManagerTasks", mgrTasks.getCompletedTasks().size(),
-                    "autoApprovalRatePercent", Math.round(percent * 10.0) / 10.0
-            );
+            DashboardSnapshotService.Snapshot snapshot = dashboardSnapshots.snapshot();
+            return dashboardSnapshots.withFreshness(snapshot.autoApprovals(), snapshot);
         } catch (Exception e) {
             log.error("❌ Auto approvals failed: {}", e.getMessage(), e);
             return Map.of("error", e.getMessage());
         }
     }
 
-    // ✅ 4️⃣ — SLA Breach List
+    // ✅ 4️⃣ — SLA Breach List (maintained by the SLA breach tracker)
     @GetMapping("/sla/breaches")
     public Map<String, Object> getSLABreaches() {
         try {
-            List<String> roles = List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK");
-            List<Map<String, Object>> breaches = new ArrayList<>();
-
-            for (String role : roles) {
-                UserTasksResponse tasks = userTaskService.getUserTasksWithHistory("00000000-0000-0000-0000-000000000000", role);
-                tasks.getPendingTasks().stream()
-                        .filter(t -> t.getDueDate() != null && t.getDueDate().isBefore(LocalDateTime.now()))
-                        .forEach(t -> breaches.add(Map.of(
-                                "role", role,
-                                "taskName", t.getTaskName(),
-                                "dueDate", t.getDueDate(),
-                                "employee", t.getEmployeeProfile() != null
-                                        ? t.getEmployeeProfile().getFullName()
-                                        : "Unknown"
-                        )));
-            }
+            List<Map<String, Object>> breaches = slaBreachTracker.breaches().stream()
+                    .map(b -> Map.<String, Object>of(
+                            "role", b.role(),
+                            "taskName", Objects.toString(b.task().getTaskName(), ""),
+                            "dueDate", b.deadline(),
+                            "breachedAt", b.detectedAt(),
+                            "employee", b.task().getEmployeeProfile() != null
+                                    ? b.task().getEmployeeProfile().getFullName()
+                                    : "Unknown"
+                    ))
+                    .toList();
 
             return Map.of("totalBreaches", breaches.size(), "details", breaches);
         } catch (Exception e) {
@@ -143,41 +122,56 @@ public class AdminWorkflowController {
         }
     }
 
-    // ✅ 5️⃣ — Top Pending Employees
+    // ✅ 5️⃣ — Top Pending Employees (continuously ranked by employee ID)
     @GetMapping("/top/pending")
-    public Map<String, Object> getTopPendingEmployees() {
-        try {
-            Map<String, Long> empCounts = new HashMap<>();
-            for (String role : List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK")) {
-                UserTasksResponse t = userTaskService.getUserTasksWithHistory("00000000-0000-0000-0000-000000000000", role);
-                for (TaskDTO task : t.getPendingTasks()) {
-                    String name = Optional.ofNullable(task.getEmployeeProfile())
-                            .map(e -> e.getFullName())
-                            .orElse("Unknown");
-                    empCounts.merge(name, 1L, Long::sum);
-                }
-            }
+    public Map<String, Object> getTopPendingEmployees(@RequestParam(required = false) Integer limit) {
+        List<TopPendingRequesters.Requester> top = (limit != null)
+                ? topPendingRequesters.top(limit)
+                : topPendingRequesters.top();
+        List<Map<String, Object>> topEmployees = top.stream()
+                .map(r -> Map.<String, Object>of(
+                        "employeeId", r.employeeId(),
+                        "name", Objects.toString(r.name(), "Unknown"),
+                        "pending", r.pending()
+                ))
+                .toList();
+        return Map.of("topEmployees", topEmployees, "maxLimit", topPendingRequesters.maxSize());
+    }
 
-            var sorted = empCounts.entrySet().stream()
-                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
-                    .limit(5)
-                    .toList();
+    // ✅ 5️⃣➕ — Force a dashboard snapshot refresh (rate-limited, 429 when called too often)
+    @PostMapping("/dashboard/refresh")
+    public Map<String, Object> refreshDashboard() {
+        DashboardSnapshotService.Snapshot snapshot = dashboardSnapshots.forceRefresh();
+        return dashboardSnapshots.withFreshness(Map.of(
+                "refreshed", true,
+                "computeTimeMs", snapshot.computeTime().toMillis()
+        ), snapshot);
+    }
 
-            return Map.of("topEmployees", sorted);
-        } catch (Exception e) {
-            log.error("❌ Top pending failed: {}", e.getMessage(), e);
-            return Map.of("error", e.getMessage());
-        }
+    // ✅ 5️⃣🕒 — Approval Latency Percentiles (rolling window, e.g. ?window=PT1H)
+    @GetMapping({"/latency", "/latency/{role}"})
+    public Map<String, Object> getApprovalLatency(
+            @PathVariable(required = false) String role,
+            @RequestParam(required = false) String taskType,
+            @RequestParam(defaultValue = "PT1H") Duration window
+    ) {
+        return Map.of(
+                "window", window,
+                "retainedWindow", latencyHistograms.retainedWindow(),
+                "series", latencyHistograms.query(role, taskType, window),
+                "timestamp", LocalDateTime.now()
+        );
     }
 
     // ✅ 6️⃣ — Org-wide Trend (default 7 days)
+    // Counters are in memory: rows before completeFrom (the service's start day) have "complete": false
     @GetMapping("/trends")
     public Map<String, Object> getWorkflowTrends(
             @RequestParam(defaultValue = "7") int days,
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
-        return buildTrendsForRoles(List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK"), "organization", days, from, to);
+        return buildTrendsForRoles(WorkflowRollups.ROLES, "organization", days, from, to);
     }
 
     // ✅ 7️⃣ — Department-specific Trend (supports from/to)
@@ -191,90 +185,111 @@ public class AdminWorkflowController {
         return buildTrendsForRoles(List.of(role.toUpperCase()), role.toUpperCase(), days, from, to);
     }
 
-    // ✅ 8️⃣ — CSV Export Endpoint
+    // ✅ 8️⃣ — CSV Export Endpoint (streamed one day at a time from the rollups)
+    // The Complete column is false for days before the service started counting
     @GetMapping("/export/trends")
-    public ResponseEntity<byte[]> exportTrendsToCSV(
+    public ResponseEntity<StreamingResponseBody> exportTrendsToCSV(
             @RequestParam(required = false) String role,
             @RequestParam(defaultValue = "7") int days,
             @RequestParam(required = false) String from,
             @RequestParam(required = false) String to
     ) {
         String roleLabel = (role != null) ? role.toUpperCase() : "ORGANIZATION";
-        Map<String, Object> trends = buildTrendsForRoles(
-                (role != null) ? List.of(roleLabel) : List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK"),
-                roleLabel, days, from, to
-        );
-
-        @SuppressWarnings("unchecked")
-        Collection<Map<String, Object>> trendData = (Collection<Map<String, Object>>) trends.get("trendData");
-
-        StringBuilder csv = new StringBuilder();
-        csv.append("Date,New Requests,Completed,SLA Breaches\n");
-        trendData.forEach(d -> csv.append(
-                String.format("%s,%s,%s,%s\n",
+        List<String> roles = (role != null) ? List.of(roleLabel) : WorkflowRollups.ROLES;
+        LocalDate endDate = (to != null) ? LocalDate.parse(to, DateTimeFormatter.ISO_DATE) : LocalDate.now();
+        LocalDate startDate = (from != null) ? LocalDate.parse(from, DateTimeFormatter.ISO_DATE) : endDate.minusDays(days - 1);
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("Date,New Requests,Completed,SLA Breaches,Complete\n");
+            for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+                Map<String, Object> d = rollups.day(roles, day);
+                writer.write(String.format("%s,%s,%s,%s,%s\n",
                         d.get("date"),
                         d.get("newRequests"),
                         d.get("completed"),
-                        d.get("slaBreaches"))
-        ));
+                        d.get("slaBreaches"),
+                        d.get("complete")));
+            }
+            writer.flush();
+        };
+
+        return csvAttachment("workflow_trends_" + roleLabel + ".csv", body);
+    }
+
+    // ✅ 9️⃣ — Raw Task History Export (one row per task, streamed page by page from Tasklist)
+    @GetMapping("/export/tasks")
+    public ResponseEntity<StreamingResponseBody> exportTasksToCSV(
+            @RequestParam(defaultValue = "MANAGER") String role,
+            @RequestParam(defaultValue = "COMPLETED") String state,
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to
+    ) {
+        String group = WorkflowRollups.groupOf(role);
+        if (group == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown role: " + role);
+        }
+        LocalDate endDate = (to != null) ? LocalDate.parse(to, DateTimeFormatter.ISO_DATE) : LocalDate.now();
+        LocalDate startDate = (from != null) ? LocalDate.parse(from, DateTimeFormatter.ISO_DATE) : endDate.minusDays(days - 1);
+        String taskState = state.toUpperCase();
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write("Task ID,Task Name,Process Instance,State,Outcome,Candidate Group,Assignee,Employee ID,Created,Due,Completed\n");
+            long rows = 0;
+            // Pulls the next Tasklist page only once the previous one has been written
+            for (TaskDTO t : userTaskService.exportTasks(group, taskState, startDate, endDate).toIterable(EXPORT_PREFETCH)) {
+                writer.write(String.join(",",
+                        csv(t.getTaskId()),
+                        csv(t.getTaskName()),
+                        csv(t.getProcessInstanceId()),
+                        csv(t.getStatus()),
+                        csv(t.getOutcome()),
+                        csv(t.getCandidateGroup()),
+                        csv(t.getAssignee()),
+                        csv(t.getVariables() != null ? t.getVariables().get("employeeId") : null),
+                        csv(t.getCreatedDate()),
+                        csv(t.getDueDate()),
+                        csv(t.getCompletionDate())));
+                writer.write("\n");
+                if (++rows % EXPORT_PREFETCH == 0) writer.flush();
+            }
+            writer.flush();
+            log.info("📤 Exported {} {} tasks for {} ({} to {})", rows, taskState, role.toUpperCase(), startDate, endDate);
+        };
 
-        byte[] data = csv.toString().getBytes(StandardCharsets.UTF_8);
+        return csvAttachment("workflow_tasks_" + role.toUpperCase() + "_" + taskState + ".csv", body);
+    }
 
+    private static ResponseEntity<StreamingResponseBody> csvAttachment(String filename, StreamingResponseBody body) {
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=workflow_trends_" + roleLabel + ".csv")
-                .contentType(MediaType.TEXT_PLAIN)
-                .body(data);
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                .contentType(TEXT_CSV)
+                .body(body);
     }
 
-    // === Core Trend Logic ===
+    // RFC 4180 quoting: fields containing separators, quotes or line breaks are quoted, quotes doubled
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String text = TaskMapper.cleanVariableValue(value).toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    // === Core Trend Logic (daily rollups, no Tasklist calls) ===
     private Map<String, Object> buildTrendsForRoles(List<String> roles, String label, int days, String from, String to) {
         try {
             LocalDate endDate = (to != null) ? LocalDate.parse(to, DateTimeFormatter.ISO_DATE) : LocalDate.now();
             LocalDate startDate = (from != null) ? LocalDate.parse(from, DateTimeFormatter.ISO_DATE) : endDate.minusDays(days - 1);
 
-            Map<LocalDate, Map<String, Object>> dailyStats = new LinkedHashMap<>();
-            LocalDate current = startDate;
-
-            while (!current.isAfter(endDate)) {
-                final LocalDate currentDate = current;
-
-                long newReq = 0, completed = 0, sla = 0;
-
-                for (String role : roles) {
-                    UserTasksResponse resp = userTaskService.getUserTasksWithHistory("00000000-0000-0000-0000-000000000000", role);
-
-                    newReq += resp.getPendingTasks().stream()
-                            .filter(t -> t.getCreatedDate() != null &&
-                                    t.getCreatedDate().toLocalDate().equals(currentDate))
-                            .count();
-
-                    completed += resp.getCompletedTasks().stream()
-                            .filter(t -> t.getCreatedDate() != null &&
-                                    t.getCreatedDate().toLocalDate().equals(currentDate))
-                            .count();
-
-                    sla += resp.getPendingTasks().stream()
-                            .filter(t -> t.getDueDate() != null &&
-                                    t.getDueDate().isBefore(LocalDateTime.now()) &&
-                                    t.getCreatedDate() != null &&
-                                    t.getCreatedDate().toLocalDate().equals(currentDate))
-                            .count();
-                }
-
-                dailyStats.put(currentDate, Map.of(
-                        "date", currentDate,
-                        "newRequests", newReq,
-                        "completed", completed,
-                        "slaBreaches", sla
-                ));
-
-                current = current.plusDays(1);
-            }
-
             return Map.of(
                     "role", label,
                     "trendPeriod", String.format("%s to %s", startDate, endDate),
-                    "trendData", dailyStats.values()
+                    "completeFrom", rollups.completeFrom(),
+                    "trendData", rollups.trend(roles, startDate, endDate)
             );
         } catch (Exception e) {
             log.error("❌ Trend build failed: {}", e.getMessage(), e);
@@ -282,12 +297,9 @@ public class AdminWorkflowController {
         }
     }
 
-    // Helper
+    // Helper: time from task creation to its completion (the decision), in minutes
     private double calculateApprovalDuration(TaskDTO task) {
-        try {
-            if (task.getCreatedDate() != null && task.getDueDate() != null)
-                return Duration.between(task.getCreatedDate(), task.getDueDate()).toMinutes();
-        } catch (Exception ignored) {}
-        return 0;
+        Duration decision = ApprovalLatencyHistograms.timeToDecision(task);
+        return decision != null ? decision.toSeconds() / 60.0 : 0;
     }
 }
@@ -1,10 +1,20 @@
 package com.bwc.approval_workflow_service.controller;
 
 import com.bwc.approval_workflow_service.dto.TaskActionRequest;
+import com.bwc.approval_workflow_service.dto.TaskPage;
 import com.bwc.approval_workflow_service.dto.UserTasksResponse;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
 import com.bwc.approval_workflow_service.workflow.EnhancedUserTaskService;
+import com.bwc.approval_workflow_service.workflow.InboxETags;
+import com.bwc.approval_workflow_service.workflow.InboxEventStream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/finance/tasks")
@@ -12,10 +22,28 @@ import org.springframework.web.bind.annotation.*;
 public class FinanceTaskController {
 
     private final EnhancedUserTaskService userTaskService;
+    private final InboxEventStream inboxEventStream;
+    private final InboxETags inboxETags;
 
     @GetMapping("/{employeeId}")
-    public UserTasksResponse getFinanceTasks(@PathVariable String employeeId) {
-        return userTaskService.getUserTasksWithHistory(employeeId, "FINANCE");
+    public Mono<ResponseEntity<UserTasksResponse>> getFinanceTasks(@PathVariable String employeeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // ✅ 304 when the inbox version matches the client's ETag
+        return inboxETags.conditional(userTaskService.getUserTasksWithHistoryReactive(employeeId, "FINANCE"), ifNoneMatch);
+    }
+
+    @GetMapping("/{employeeId}/page")
+    public Mono<TaskPage> getFinanceTaskPage(@PathVariable String employeeId,
+                                             @RequestParam(defaultValue = "CREATED") String state,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        return userTaskService.getUserTaskPage(employeeId, state, cursor, limit);
+    }
+
+    // ✅ Live inbox deltas (CREATED / CLAIMED / COMPLETED / CANCELED) as server-sent events
+    @GetMapping(value = "/{employeeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskLifecycleEvent>> streamFinanceInbox(@PathVariable String employeeId) {
+        return inboxEventStream.stream(employeeId);
     }
 
     @PostMapping("/{taskId}/process")
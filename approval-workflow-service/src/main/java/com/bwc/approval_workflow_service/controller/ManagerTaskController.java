@@ -6,19 +6,33 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.bwc.approval_workflow_service.dto.BulkTaskActionRequest;
+import com.bwc.approval_workflow_service.dto.BulkTaskActionResponse;
 import com.bwc.approval_workflow_service.dto.TaskActionRequest;
 import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.dto.TaskPage;
 import com.bwc.approval_workflow_service.dto.UserTasksResponse;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
 import com.bwc.approval_workflow_service.workflow.EnhancedUserTaskService;
+import com.bwc.approval_workflow_service.workflow.InboxETags;
+import com.bwc.approval_workflow_service.workflow.InboxEventStream;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/manager/tasks")
@@ -26,11 +40,30 @@ import lombok.RequiredArgsConstructor;
 public class ManagerTaskController {
 
     private final EnhancedUserTaskService userTaskService;
+    private final InboxEventStream inboxEventStream;
+    private final InboxETags inboxETags;
 
     // ✅ Get all tasks (pending + completed) - YOUR EXISTING METHOD
     @GetMapping("/{employeeId}")
-    public UserTasksResponse getManagerTasks(@PathVariable String employeeId) {
-        return userTaskService.getUserTasksWithHistory(employeeId, "MANAGER");
+    public Mono<ResponseEntity<UserTasksResponse>> getManagerTasks(@PathVariable String employeeId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // ✅ 304 when the inbox version matches the client's ETag
+        return inboxETags.conditional(userTaskService.getUserTasksWithHistoryReactive(employeeId, "MANAGER"), ifNoneMatch);
+    }
+
+    // ✅ Cursor-paged inbox: follow nextCursor until it is null
+    @GetMapping("/{employeeId}/page")
+    public Mono<TaskPage> getManagerTaskPage(@PathVariable String employeeId,
+                                             @RequestParam(defaultValue = "CREATED") String state,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "50") int limit) {
+        return userTaskService.getUserTaskPage(employeeId, state, cursor, limit);
+    }
+
+    // ✅ Live inbox deltas (CREATED / CLAIMED / COMPLETED / CANCELED) as server-sent events
+    @GetMapping(value = "/{employeeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<TaskLifecycleEvent>> streamManagerInbox(@PathVariable String employeeId) {
+        return inboxEventStream.stream(employeeId);
     }
 
     // ✅ Get detailed context for one specific task - YOUR EXISTING METHOD
@@ -123,6 +156,18 @@ public class ManagerTaskController {
         return "✅ Manager task approved successfully!";
     }
 
+    // ✅ Bulk approve: same comments/variables for every task, per-task report
+    @PostMapping("/bulk/approve")
+    public Mono<BulkTaskActionResponse> bulkApprove(@RequestBody BulkTaskActionRequest request) {
+        return userTaskService.completeTasks(request, true);
+    }
+
+    // ✅ Bulk reject
+    @PostMapping("/bulk/reject")
+    public Mono<BulkTaskActionResponse> bulkReject(@RequestBody BulkTaskActionRequest request) {
+        return userTaskService.completeTasks(request, false);
+    }
+
     // ✅ Reject a task - YOUR EXISTING METHOD
     @PostMapping("/{taskId}/reject")
     public String rejectTask(@PathVariable String taskId,
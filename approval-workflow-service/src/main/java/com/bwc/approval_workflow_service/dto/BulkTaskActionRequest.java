@@ -0,0 +1,20 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskActionRequest {
+    private List<String> taskIds;
+    // Shared by every task in the batch
+    private String comments;
+    private Map<String, Object> additionalVariables;
+}
@@ -0,0 +1,31 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskActionResponse {
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private long durationMs;
+    // One entry per distinct task ID, in request order
+    private List<TaskResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TaskResult {
+        private String taskId;
+        private boolean success;
+        private String error;
+    }
+}
@@ -0,0 +1,21 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartEntryDTO {
+    private UUID employeeId;
+    private UUID managerId;
+    private String level;
+    private Boolean active;
+    private LocalDateTime updatedAt;
+}
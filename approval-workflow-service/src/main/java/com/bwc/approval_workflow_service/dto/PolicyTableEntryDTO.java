@@ -0,0 +1,22 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyTableEntryDTO {
+    private String city;
+    private UUID categoryId;
+    private String categoryName;
+    private Integer year;
+    private String grade;
+    private Double lodgingCompanyRate;
+    private Double lodgingOwnRate;
+}
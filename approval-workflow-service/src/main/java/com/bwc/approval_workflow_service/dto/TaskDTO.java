@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskDTO {
@@ -21,6 +21,7 @@ public class TaskDTO {
     private String processDefinitionId;
     private LocalDateTime createdDate;
     private LocalDateTime dueDate;
+    private LocalDateTime completionDate;
     private String assignee;
     private String candidateGroup;
     private Map<String, Object> variables;
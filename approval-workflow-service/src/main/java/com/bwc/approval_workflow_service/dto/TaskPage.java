@@ -0,0 +1,21 @@
+package com.bwc.approval_workflow_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPage {
+    private List<TaskDTO> tasks;
+    private String state;
+    private int limit;
+    // Opaque cursor for the next page; null once the inbox is exhausted
+    private String nextCursor;
+    private boolean hasMore;
+}
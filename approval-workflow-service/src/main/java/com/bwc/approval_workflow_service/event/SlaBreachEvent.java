@@ -0,0 +1,27 @@
+package com.bwc.approval_workflow_service.event;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the SLA breach tracker when an open user task passes its SLA deadline.
+ * Fired once per task; listeners can use it to escalate.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlaBreachEvent {
+
+    private TaskDTO task;
+    private String role;
+    private LocalDateTime deadline;
+    private LocalDateTime detectedAt;
+    // True when the task was already overdue when the projection first loaded it, e.g. after a restart
+    private boolean initialLoad;
+}
@@ -0,0 +1,31 @@
+package com.bwc.approval_workflow_service.event;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the task projection whenever it observes a user task change state,
+ * whether the change came from this service (task completion) or from Tasklist reconciliation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskLifecycleEvent {
+
+    public enum Type { CREATED, CLAIMED, COMPLETED, CANCELED }
+
+    private Type type;
+    private TaskDTO task;
+    private String previousAssignee;
+    // Null when the projection sees the task for the first time
+    private String previousStatus;
+    private LocalDateTime occurredAt;
+    // True while the projection loads its first snapshot: the task already existed, nothing just happened to it
+    private boolean initialLoad;
+}
@@ -49,6 +49,8 @@ public class TravelRequestConsumer {
         vars.put("origin", travel.getOrigin() != null ? travel.getOrigin() : "Unknown");
         vars.put("destination", travel.getTravelDestination() != null ? travel.getTravelDestination() : "Unknown");
         vars.put("travelPurpose", travel.getPurpose() != null ? travel.getPurpose() : "NA");
+        vars.put("travelStartDate", travel.getStartDate() != null ? travel.getStartDate().toString() : null);
+        vars.put("travelEndDate", travel.getEndDate() != null ? travel.getEndDate().toString() : null);
         vars.put("managerPresent", travel.isManagerPresent());
 
         try {
@@ -0,0 +1,176 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Time-to-decision (task creation to completion) of every completed user task, per role and task type.
+ *
+ * Each decision is recorded twice: into a Micrometer timer {@code workflow.approval.time-to-decision}
+ * publishing p50/p95/p99, and into an HdrHistogram recorder whose interval histograms are kept in a
+ * ring of {@code workflow.latency.slot}-long slots. Rolling-window queries merge the slots inside the
+ * window, so they reflect decisions up to the last completed slot. Empty slots hold nothing.
+ * A task's decision is recorded once, even when the projection observes its completion again.
+ */
+@Component
+@Slf4j
+public class ApprovalLatencyHistograms {
+
+    public record LatencyKey(String role, String taskType) {
+    }
+
+    // Decisions are tracked to the second, up to 90 days, with two significant digits
+    private static final long HIGHEST_SECONDS = TimeUnit.DAYS.toSeconds(90);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slot;
+    private final int slots;
+    private final Duration percentileExpiry;
+    private final Map<LatencyKey, Series> series = new ConcurrentHashMap<>();
+    // Tasks whose decision was already recorded, for as long as the rolling windows can see them
+    private final Set<String> recorded;
+    private volatile int head;
+
+    public ApprovalLatencyHistograms(MeterRegistry meterRegistry,
+                                     @Value("${workflow.latency.slot:PT5M}") Duration slot,
+                                     @Value("${workflow.latency.window:PT24H}") Duration window,
+                                     @Value("${workflow.latency.percentile-expiry:PT10M}") Duration percentileExpiry) {
+        this.meterRegistry = meterRegistry;
+        this.slot = slot;
+        this.slots = (int) Math.max(1, window.toMillis() / slot.toMillis());
+        this.percentileExpiry = percentileExpiry;
+        Cache<String, Boolean> recordedTasks = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window.plus(slot))
+                .build();
+        this.recorded = Collections.newSetFromMap(recordedTasks.asMap());
+    }
+
+    // === Recording ===
+
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        // Completions in the projection's first snapshot did not just happen; they would skew the windows
+        if (event.getType() != TaskLifecycleEvent.Type.COMPLETED || event.isInitialLoad()) return;
+
+        TaskDTO task = event.getTask();
+        String role = WorkflowRollups.roleOf(task.getCandidateGroup());
+        Duration decision = timeToDecision(task);
+        if (role == null || decision == null || !recorded.add(task.getTaskId())) return;
+
+        Series s = series.computeIfAbsent(new LatencyKey(role, taskTypeOf(task)), this::newSeries);
+        s.timer.record(decision);
+        s.recorder.recordValue(Math.min(Math.max(decision.toSeconds(), 0), HIGHEST_SECONDS));
+    }
+
+    public static Duration timeToDecision(TaskDTO task) {
+        LocalDateTime created = task.getCreatedDate();
+        LocalDateTime completed = task.getCompletionDate();
+        if (created == null || completed == null || completed.isBefore(created)) return null;
+        return Duration.between(created, completed);
+    }
+
+    private static String taskTypeOf(TaskDTO task) {
+        return task.getTaskName() != null ? task.getTaskName() : "unknown";
+    }
+
+    private Series newSeries(LatencyKey key) {
+        Timer timer = Timer.builder("workflow.approval.time-to-decision")
+                .description("Time from user task creation to its completion")
+                .tag("role", key.role())
+                .tag("task", key.taskType())
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .distributionStatisticExpiry(percentileExpiry)
+                .minimumExpectedValue(Duration.ofSeconds(1))
+                .maximumExpectedValue(Duration.ofDays(90))
+                .register(meterRegistry);
+        return new Series(timer, new Recorder(HIGHEST_SECONDS, SIGNIFICANT_DIGITS), new AtomicReferenceArray<>(slots));
+    }
+
+    // Closes the current slot of every series and moves the ring forward
+    @Scheduled(fixedRateString = "${workflow.latency.slot:PT5M}", initialDelayString = "${workflow.latency.slot:PT5M}")
+    public void rotate() {
+        int next = (head + 1) % slots;
+        for (Series s : series.values()) {
+            Histogram interval = s.recorder.getIntervalHistogram();
+            s.ring.set(next, interval.getTotalCount() > 0 ? interval : null);
+        }
+        head = next;
+    }
+
+    // === Queries ===
+
+    /**
+     * Percentiles over the last {@code window} (rounded up to whole slots, capped at the retained window)
+     * for every series matching the role and task type; null filters match everything.
+     */
+    public List<Map<String, Object>> query(String role, String taskType, Duration window) {
+        int count = (int) Math.min(slots, Math.max(1, (window.toMillis() + slot.toMillis() - 1) / slot.toMillis()));
+        int from = head;
+        List<Map<String, Object>> result = new ArrayList<>();
+        series.forEach((key, s) -> {
+            if (role != null && !role.equalsIgnoreCase(key.role())) return;
+            if (taskType != null && !taskType.equals(key.taskType())) return;
+
+            Histogram merged = new Histogram(HIGHEST_SECONDS, SIGNIFICANT_DIGITS);
+            for (int i = 0; i < count; i++) {
+                Histogram h = s.ring.get(Math.floorMod(from - i, slots));
+                if (h != null) merged.add(h);
+            }
+            result.add(describe(key, merged));
+        });
+        return result;
+    }
+
+    public Duration retainedWindow() {
+        return slot.multipliedBy(slots);
+    }
+
+    private static Map<String, Object> describe(LatencyKey key, Histogram h) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("role", key.role());
+        row.put("taskType", key.taskType());
+        row.put("decisions", h.getTotalCount());
+        if (h.getTotalCount() > 0) {
+            row.put("p50Minutes", minutes(h.getValueAtPercentile(50)));
+            row.put("p95Minutes", minutes(h.getValueAtPercentile(95)));
+            row.put("p99Minutes", minutes(h.getValueAtPercentile(99)));
+            row.put("maxMinutes", minutes(h.getMaxValue()));
+            row.put("meanMinutes", minutes(h.getMean()));
+        }
+        return row;
+    }
+
+    private static double minutes(double seconds) {
+        return Math.round(seconds / 6.0) / 10.0;
+    }
+
+    private record Series(Timer timer, Recorder recorder, AtomicReferenceArray<Histogram> ring) {
+    }
+}
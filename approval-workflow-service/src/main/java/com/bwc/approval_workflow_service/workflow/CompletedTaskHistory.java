@@ -0,0 +1,156 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Locally retained history of completed tasks per (assignee, candidate group) search.
+ *
+ * Completed tasks never change, so each history remembers the latest completion date it has
+ * seen (its watermark) and a refresh only pulls tasks completed at or after it. New tasks are
+ * enriched once, merged in completion order (newest first) and the oldest are dropped beyond
+ * {@code retention}. Idle histories are evicted, and the number of histories is bounded.
+ */
+@Component
+@Slf4j
+public class CompletedTaskHistory {
+
+    public record HistoryKey(String assignee, String candidateGroup) {
+    }
+
+    // Newest completion first; task id breaks ties so keyset paging is stable
+    public static final Comparator<TaskDTO> COMPLETION_ORDER = Comparator
+            .comparing(TaskDTO::getCompletionDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(TaskDTO::getTaskId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Cache<HistoryKey, History> histories;
+    @Getter
+    private final int retention;
+    private final Counter appended;
+    private final Counter refreshFailures;
+
+    public CompletedTaskHistory(MeterRegistry meterRegistry,
+                                @Value("${workflow.history.retention:1000}") int retention,
+                                @Value("${workflow.history.maximum-keys:1000}") long maximumKeys,
+                                @Value("${workflow.history.expire-after-access:30m}") Duration expireAfterAccess) {
+        this.retention = retention;
+        this.histories = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.appended = Counter.builder("workflow.history.appended")
+                .description("Completed tasks added to local histories by incremental refreshes")
+                .register(meterRegistry);
+        this.refreshFailures = Counter.builder("workflow.history.refresh.failures")
+                .description("History refreshes that failed and served the retained history")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pulls tasks completed since the history's watermark and returns the updated history.
+     * {@code fetchSince} receives null for a history that has never been loaded. If it fails,
+     * the retained history is returned unchanged and the watermark does not move.
+     */
+    public List<TaskDTO> refresh(HistoryKey key,
+                                 Function<LocalDateTime, List<TaskDTO>> fetchSince,
+                                 Consumer<List<TaskDTO>> enrichNew) {
+        History history = histories.get(key, k -> new History());
+        synchronized (history) {
+            try {
+                List<TaskDTO> fetched = fetchSince.apply(history.watermark);
+                List<TaskDTO> fresh = fetched.stream()
+                        .filter(t -> t.getTaskId() != null && !history.ids.contains(t.getTaskId()))
+                        .toList();
+                if (!fresh.isEmpty()) {
+                    enrichNew.accept(fresh);
+                    history.append(fresh, retention);
+                    appended.increment(fresh.size());
+                }
+                log.debug("📚 History {} refreshed: {} new, {} retained, watermark {}",
+                        key, fresh.size(), history.snapshot.size(), history.watermark);
+            } catch (Exception e) {
+                refreshFailures.increment();
+                log.warn("⚠️ History refresh failed for {}, serving {} retained tasks: {}",
+                        key, history.snapshot.size(), e.getMessage());
+            }
+            return history.snapshot;
+        }
+    }
+
+    // Retained history without contacting Tasklist; empty if the key was never loaded or has been evicted
+    public List<TaskDTO> snapshot(HistoryKey key) {
+        History history = histories.getIfPresent(key);
+        return history != null ? history.snapshot : Collections.emptyList();
+    }
+
+    public void clear() {
+        histories.invalidateAll();
+    }
+
+    // Union of histories in completion order; the first history wins for duplicate task ids
+    @SafeVarargs
+    public static List<TaskDTO> union(List<TaskDTO>... sources) {
+        Map<String, TaskDTO> byId = new LinkedHashMap<>();
+        for (List<TaskDTO> source : sources) {
+            source.forEach(t -> byId.putIfAbsent(t.getTaskId(), t));
+        }
+        List<TaskDTO> merged = new ArrayList<>(byId.values());
+        merged.sort(COMPLETION_ORDER);
+        return merged;
+    }
+
+    // Index of the first task that sorts after (completionDate, taskId) in COMPLETION_ORDER
+    public static int indexAfter(List<TaskDTO> ordered, LocalDateTime completionDate, String taskId) {
+        TaskDTO probe = TaskDTO.builder().completionDate(completionDate).taskId(taskId).build();
+        int index = Collections.binarySearch(ordered, probe, COMPLETION_ORDER);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static final class History {
+        private final Set<String> ids = new HashSet<>();
+        private volatile List<TaskDTO> snapshot = Collections.emptyList();
+        private LocalDateTime watermark;
+
+        void append(List<TaskDTO> fresh, int retention) {
+            List<TaskDTO> merged = new ArrayList<>(snapshot.size() + fresh.size());
+            merged.addAll(snapshot);
+            merged.addAll(fresh);
+            merged.sort(COMPLETION_ORDER);
+            if (merged.size() > retention) {
+                merged.subList(retention, merged.size()).clear();
+            }
+
+            ids.clear();
+            merged.forEach(t -> ids.add(t.getTaskId()));
+
+            // Newest first, so the head carries the latest completion date; the watermark never moves back
+            LocalDateTime newest = merged.isEmpty() ? null : merged.get(0).getCompletionDate();
+            if (newest != null && (watermark == null || newest.isAfter(watermark))) {
+                watermark = newest;
+            }
+            snapshot = List.copyOf(merged);
+        }
+    }
+}
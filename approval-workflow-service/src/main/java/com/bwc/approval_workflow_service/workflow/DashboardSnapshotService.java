@@ -0,0 +1,172 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory snapshot of the admin dashboard aggregates (summary, auto-approvals).
+ *
+ * The snapshot is recomputed in the background every {@code workflow.dashboard.refresh-interval}
+ * and admin reads are served from it, annotated with its age and staleness bound. A forced refresh
+ * is allowed at most once per {@code workflow.dashboard.min-forced-interval}; further requests are
+ * refused with 429. Every aggregate comes from the task projection and the rollups, so a refresh
+ * makes no Tasklist calls.
+ */
+@Component
+@Slf4j
+public class DashboardSnapshotService {
+
+    public record Snapshot(Map<String, Object> summary,
+                           Map<String, Object> autoApprovals,
+                           Instant takenAt,
+                           Duration computeTime) {
+    }
+
+    private final TaskProjection projection;
+    private final WorkflowRollups rollups;
+    private final Duration refreshInterval;
+    private final Duration minForcedInterval;
+    private final Timer refreshTimer;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private volatile Instant lastForced = Instant.EPOCH;
+
+    public DashboardSnapshotService(TaskProjection projection,
+                                    WorkflowRollups rollups,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${workflow.dashboard.refresh-interval:PT1M}") Duration refreshInterval,
+                                    @Value("${workflow.dashboard.min-forced-interval:PT30S}") Duration minForcedInterval) {
+        this.projection = projection;
+        this.rollups = rollups;
+        this.refreshInterval = refreshInterval;
+        this.minForcedInterval = minForcedInterval;
+        this.refreshTimer = Timer.builder("workflow.dashboard.refresh")
+                .description("Time to recompute the admin dashboard snapshot")
+                .register(meterRegistry);
+    }
+
+    // === Refresh ===
+
+    @Scheduled(fixedDelayString = "${workflow.dashboard.refresh-interval:PT1M}", initialDelayString = "PT20S")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("⚠️ Dashboard snapshot refresh failed, keeping the previous one: {}", e.getMessage());
+        }
+    }
+
+    /** Refreshes now unless a forced refresh ran within the minimum interval; throws 429 in that case. */
+    public Snapshot forceRefresh() {
+        synchronized (this) {
+            Instant now = Instant.now();
+            Duration sinceLast = Duration.between(lastForced, now);
+            if (sinceLast.compareTo(minForcedInterval) < 0) {
+                long retryAfter = minForcedInterval.minus(sinceLast).toSeconds() + 1;
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "Dashboard was refreshed " + sinceLast.toSeconds() + "s ago; retry in " + retryAfter + "s");
+            }
+            lastForced = now;
+        }
+        return refresh();
+    }
+
+    // One refresh at a time, so scheduled and forced refreshes never overlap
+    private synchronized Snapshot refresh() {
+        long start = System.nanoTime();
+        Snapshot snapshot = new Snapshot(computeSummary(), computeAutoApprovals(),
+                Instant.now(), Duration.ofNanos(System.nanoTime() - start));
+        refreshTimer.record(snapshot.computeTime());
+        current.set(snapshot);
+        log.info("📊 Dashboard snapshot refreshed in {}ms", snapshot.computeTime().toMillis());
+        return snapshot;
+    }
+
+    // === Reads ===
+
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : firstSnapshot();
+    }
+
+    // Readers arriving before the first snapshot wait for one computation instead of each running their own
+    private synchronized Snapshot firstSnapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : refresh();
+    }
+
+    // The part of the snapshot plus its age, so clients can tell how fresh the figures are
+    public Map<String, Object> withFreshness(Map<String, Object> part, Snapshot snapshot) {
+        Duration age = Duration.between(snapshot.takenAt(), Instant.now());
+        Duration bound = refreshInterval.plus(snapshot.computeTime());
+        Map<String, Object> response = new LinkedHashMap<>(part);
+        response.put("snapshotTakenAt", snapshot.takenAt());
+        response.put("snapshotAgeSeconds", age.toSeconds());
+        response.put("maxStalenessSeconds", bound.toSeconds());
+        response.put("stale", age.compareTo(bound) > 0);
+        return response;
+    }
+
+    // === Aggregates ===
+
+    private Map<String, Object> computeSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long totalPending = 0, totalCompleted = 0;
+
+        for (String role : WorkflowRollups.ROLES) {
+            long pending = rollups.pending(role);
+            long completed = rollups.completed(role);
+            totalPending += pending;
+            totalCompleted += completed;
+
+            summary.put(role, Map.of(
+                    "pending", pending,
+                    "completed", completed
+            ));
+        }
+
+        summary.put("organizationTotals", Map.of(
+                "totalPending", totalPending,
+                "totalCompleted", totalCompleted,
+                "warm", rollups.isWarm(),
+                "timestamp", LocalDateTime.now()
+        ));
+        return summary;
+    }
+
+    // Completed manager tasks held by the projection (its retained completions), no Tasklist calls
+    private Map<String, Object> computeAutoApprovals() {
+        List<TaskDTO> completed = projection.find(null, WorkflowRollups.groupOf("MANAGER"), "COMPLETED");
+
+        long autoApproved = completed.stream()
+                .filter(t -> t.getVariables() != null && Boolean.parseBoolean(
+                        String.valueOf(t.getVariables().getOrDefault("managerAutoApproved", false))
+                ))
+                .count();
+
+        double percent = completed.isEmpty() ? 0 : (autoApproved * 100.0 / completed.size());
+
+        return Map.of(
+                "autoApprovedCount", autoApproved,
+                "totalManagerTasks", completed.size(),
+                "autoApprovalRatePercent", Math.round(percent * 10.0) / 10.0,
+                "warm", projection.isWarm()
+        );
+    }
+}
@@ -2,46 +2,52 @@ package com.bwc.approval_workflow_service.workflow;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.bwc.approval_workflow_service.dto.BulkTaskActionRequest;
+import com.bwc.approval_workflow_service.dto.BulkTaskActionResponse;
 import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
 import com.bwc.approval_workflow_service.dto.TaskActionRequest;
 import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.dto.TaskPage;
 import com.bwc.approval_workflow_service.dto.UserInfo;
 import com.bwc.approval_workflow_service.dto.UserTasksResponse;
+import com.bwc.approval_workflow_service.workflow.CompletedTaskHistory.HistoryKey;
+import com.bwc.approval_workflow_service.workflow.InboxLoadCoalescer.InboxKey;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Service
 @RequiredArgsConstructor
@@ -50,8 +56,51 @@ public class EnhancedUserTaskService {
 
     private final WebClient tasklistClient;
     private final EmployeeServiceClient employeeServiceClient;
+    private final ProcessVariableClient processVariableClient;
+    private final TaskEnrichmentCache enrichmentCache;
+    private final TaskProjection taskProjection;
+    private final InboxLoadCoalescer inboxLoadCoalescer;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final CompletedTaskHistory completedHistory;
+    private final OrgChartCache orgChart;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private static final int DEFAULT_PAGE_SIZE = 100;
+    private final TasklistTaskDecoder taskDecoder = new TasklistTaskDecoder(objectMapper);
+    private static final Duration SEARCH_ALL_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PROJECTION_LOAD_TIMEOUT = Duration.ofMinutes(2);
+    // Tasklist v1 sorts on creationTime, completionTime, followUpDate, dueDate and priority only
+    private static final List<Map<String, String>> COMPLETION_TIME_DESC =
+            List.of(Map.of("field", "completionTime", "order", "DESC"));
+    private static final List<Map<String, String>> CREATION_TIME_DESC =
+            List.of(Map.of("field", "creationTime", "order", "DESC"));
+    private static final Comparator<TaskDTO> NEWEST_FIRST = Comparator.comparing(TaskDTO::getCreatedDate,
+            Comparator.nullsLast(Comparator.reverseOrder()));
+
+    // Page size for each /v1/tasks/search request and upper bound for inbox page limits
+    @Value("${services.tasklist.page-size:100}")
+    private int pageSize;
+
+    // Hard cap on tasks collected by a full searchAfter walk
+    @Value("${services.tasklist.max-results:1000}")
+    private int maxResults;
+
+    // Serve inboxes from the local task projection once it has been reconciled
+    @Value("${workflow.projection.enabled:true}")
+    private boolean projectionEnabled;
+
+    // Keep completed tasks locally and only fetch those completed since the last refresh
+    @Value("${workflow.history.enabled:true}")
+    private boolean historyEnabled;
+
+    // Tasklist completions in flight per bulk request, and the largest accepted batch
+    @Value("${workflow.bulk.concurrency:8}")
+    private int bulkConcurrency;
+
+    @Value("${workflow.bulk.max-tasks:100}")
+    private int bulkMaxTasks;
+
+    // Upper bound on rows in one raw task export
+    @Value("${workflow.export.max-tasks:100000}")
+    private int exportMaxTasks;
 
     // === Public: Get all tasks ===
     public UserTasksResponse getUserTasksWithHistory(String employeeId, String role) {
@@ -70,12 +119,22 @@ public class EnhancedUserTaskService {
             userInfo.setRole(role);
 
             // Get tasks
-            List<TaskDTO> pendingTasks = getPendingTasks(employeeId, role);
-            List<TaskDTO> completedTasks = getCompletedTasks(employeeId, role);
+            List<TaskDTO> pendingTasks;
+            List<TaskDTO> completedTasks;
 
-            // Use optimized enrichment
-            enrichTasksWithProcessVariablesOptimized(pendingTasks);
-            enrichTasksWithProcessVariablesOptimized(completedTasks);
+            if (useProjection()) {
+                // Projection tasks are enriched when they are reconciled
+                pendingTasks = taskProjection.find(employeeId, "managers", "CREATED");
+                completedTasks = newestFirst(taskProjection.find(employeeId, "managers", "COMPLETED"));
+            } else {
+                // Identical concurrent loads share one Tasklist fan-out
+                pendingTasks = inboxLoadCoalescer.load(new InboxKey(employeeId, role, "CREATED"),
+                                () -> blockingLoad(() -> getPendingTasks(employeeId, role)))
+                        .block(SEARCH_ALL_TIMEOUT);
+                completedTasks = inboxLoadCoalescer.load(new InboxKey(employeeId, role, "COMPLETED"),
+                                () -> completedTasksLoad(employeeId, role))
+                        .block(SEARCH_ALL_TIMEOUT);
+            }
 
             UserTasksResponse response = new UserTasksResponse();
             response.setPendingTasks(pendingTasks);
@@ -94,6 +153,238 @@ public class EnhancedUserTaskService {
         }
     }
 
+    // === Public: Get all tasks (non-blocking) ===
+    // The four Tasklist searches (assignee/group × CREATED/COMPLETED) are subscribed
+    // concurrently; the blocking Feign lookup and enrichment run on boundedElastic so
+    // the calling request thread is released immediately.
+    public Mono<UserTasksResponse> getUserTasksWithHistoryReactive(String employeeId, String role) {
+        long startTime = System.currentTimeMillis();
+
+        Mono<UserInfo> userInfoMono = Mono.fromCallable(() -> getCachedEmployee(employeeId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("Employee not found: " + employeeId)))
+                .map(employee -> {
+                    UserInfo userInfo = new UserInfo();
+                    userInfo.setEmployeeId(employeeId);
+                    userInfo.setFullName(employee.getFullName());
+                    userInfo.setDepartment(employee.getDepartment());
+                    userInfo.setRole(role);
+                    return userInfo;
+                });
+
+        Mono<List<TaskDTO>> pendingMono;
+        Mono<List<TaskDTO>> completedMono;
+
+        if (useProjection()) {
+            pendingMono = Mono.fromSupplier(() -> taskProjection.find(employeeId, "managers", "CREATED"));
+            completedMono = Mono.fromSupplier(() -> newestFirst(taskProjection.find(employeeId, "managers", "COMPLETED")));
+        } else {
+            pendingMono = inboxLoadCoalescer.load(new InboxKey(employeeId, role, "CREATED"),
+                    () -> mergeAssigneeAndGroupTasksReactive(employeeId, "managers", "CREATED")
+                            .collectList()
+                            .flatMap(this::enrichTasksReactive));
+
+            completedMono = inboxLoadCoalescer.load(new InboxKey(employeeId, role, "COMPLETED"),
+                    () -> historyEnabled
+                            ? completedTasksLoad(employeeId, role)
+                            : mergeAssigneeAndGroupTasksReactive(employeeId, "managers", "COMPLETED")
+                                    .sort(NEWEST_FIRST)
+                                    .collectList()
+                                    .flatMap(this::enrichTasksReactive));
+        }
+
+        return Mono.zip(userInfoMono, pendingMono, completedMono)
+                .map(tuple -> {
+                    UserTasksResponse response = new UserTasksResponse();
+                    response.setUserInfo(tuple.getT1());
+                    response.setPendingTasks(tuple.getT2());
+                    response.setCompletedTasks(tuple.getT3());
+                    log.info("✅ Fetched {} pending, {} completed tasks in {}ms (reactive)",
+                            tuple.getT2().size(), tuple.getT3().size(), System.currentTimeMillis() - startTime);
+                    return response;
+                })
+                .onErrorMap(e -> {
+                    log.error("❌ Failed to fetch tasks for employee {}: {}", employeeId, e.getMessage(), e);
+                    return new RuntimeException("Failed to fetch user tasks", e);
+                });
+    }
+
+    private boolean useProjection() {
+        return projectionEnabled && taskProjection.isWarm();
+    }
+
+    private static List<TaskDTO> newestFirst(List<TaskDTO> tasks) {
+        return tasks.stream().sorted(NEWEST_FIRST).toList();
+    }
+
+    // Full, enriched snapshot of one task state for the local projection.
+    // Unlike the inbox searches, Tasklist errors propagate so a failed load never empties the projection.
+    public List<TaskDTO> loadTasksForProjection(String state, int cap) {
+        Map<String, Object> query = buildEnhancedTaskQuery(null, null, state);
+        if ("COMPLETED".equals(state)) {
+            query.put("sort", COMPLETION_TIME_DESC);
+        }
+
+        List<TaskDTO> tasks = new ArrayList<>(walkTaskPages(query, true, cap)
+                .collectList()
+                .block(PROJECTION_LOAD_TIMEOUT));
+        enrichTasksWithProcessVariablesOptimized(tasks);
+        return tasks;
+    }
+
+    // Open tasks created at or after since, newest first, enriched for the projection.
+    // The walk stops at the first older task, so only the pages holding new tasks are fetched.
+    public List<TaskDTO> loadTasksCreatedSince(LocalDateTime since, int cap) {
+        Map<String, Object> query = buildEnhancedTaskQuery(null, null, "CREATED");
+        query.put("sort", CREATION_TIME_DESC);
+
+        List<TaskDTO> tasks = new ArrayList<>(walkTaskPages(query, true, cap)
+                .takeWhile(t -> t.getCreatedDate() == null || !t.getCreatedDate().isBefore(since))
+                .collectList()
+                .block(PROJECTION_LOAD_TIMEOUT));
+        enrichTasksWithProcessVariablesOptimized(tasks);
+        return tasks;
+    }
+
+    /**
+     * Raw tasks for export, one Tasklist page at a time and without enrichment.
+     * COMPLETED tasks are walked newest completion first and filtered on completion date, so the walk
+     * stops at the first task completed before {@code from}; other states are filtered on creation date.
+     * Pages are only fetched as the subscriber consumes rows. Tasklist errors end the stream with an error.
+     */
+    public Flux<TaskDTO> exportTasks(String candidateGroup, String state, LocalDate from, LocalDate to) {
+        Map<String, Object> query = buildEnhancedTaskQuery(null, candidateGroup, state);
+        boolean completed = "COMPLETED".equals(state);
+        if (completed) {
+            query.put("sort", COMPLETION_TIME_DESC);
+        }
+        Function<TaskDTO, LocalDateTime> timestamp = completed ? TaskDTO::getCompletionDate : TaskDTO::getCreatedDate;
+
+        Flux<TaskDTO> tasks = walkTaskPages(query, true, exportMaxTasks);
+        if (completed && from != null) {
+            tasks = tasks.takeWhile(t -> t.getCompletionDate() == null || !t.getCompletionDate().toLocalDate().isBefore(from));
+        }
+        return tasks.filter(t -> {
+            LocalDateTime at = timestamp.apply(t);
+            if (at == null) return from == null && to == null;
+            return (from == null || !at.toLocalDate().isBefore(from)) && (to == null || !at.toLocalDate().isAfter(to));
+        });
+    }
+
+    private Flux<TaskDTO> mergeAssigneeAndGroupTasksReactive(String employeeId, String group, String state) {
+        Flux<TaskDTO> assigneeTasks = searchAllTasks(buildEnhancedTaskQuery(employeeId, null, state));
+        Flux<TaskDTO> groupTasks = searchAllTasks(buildEnhancedTaskQuery(null, group, state));
+
+        // Flux.merge subscribes to both searches eagerly, so they run concurrently
+        return Flux.merge(assigneeTasks, groupTasks)
+                .filter(t -> t.getTaskId() != null)
+                .distinct(TaskDTO::getTaskId);
+    }
+
+    // === Public: Paged inbox ===
+    // Walks the assignee search first, then the candidate-group search, one Tasklist page per call.
+    // Pages can be shorter than the limit; clients follow nextCursor until it is null.
+    public Mono<TaskPage> getUserTaskPage(String employeeId, String state, String cursor, int limit) {
+        InboxCursor position = InboxCursor.decode(cursor);
+        int effectiveLimit = Math.max(1, Math.min(limit, pageSize));
+
+        // Completed pages come from the local history; the first page refreshes it
+        if ("COMPLETED".equals(state) && historyEnabled
+                && (cursor == null || cursor.isBlank() || position.getSource() == InboxCursor.Source.HISTORY)) {
+            return getCompletedHistoryPage(employeeId, cursor == null || cursor.isBlank() ? null : position, effectiveLimit);
+        }
+        boolean fromAssignee = position.getSource() == InboxCursor.Source.ASSIGNEE;
+
+        Map<String, Object> query = fromAssignee
+                ? buildEnhancedTaskQuery(employeeId, null, state)
+                : buildEnhancedTaskQuery(null, "managers", state);
+        query.put("pageSize", effectiveLimit);
+
+        return fetchTaskPage(query, position.getSearchAfter())
+                .defaultIfEmpty(TasklistTaskDecoder.Page.EMPTY)
+                .flatMap(page -> {
+                    InboxCursor next = null;
+                    if (page.hasNext(effectiveLimit)) {
+                        next = new InboxCursor(position.getSource(), page.sortValues());
+                    } else if (fromAssignee) {
+                        next = new InboxCursor(InboxCursor.Source.GROUP, null);
+                    }
+
+                    // Tasks already assigned to this employee were served by the assignee search
+                    List<TaskDTO> tasks = fromAssignee
+                            ? page.tasks()
+                            : page.tasks().stream()
+                                    .filter(t -> !employeeId.equals(t.getAssignee()))
+                                    .collect(Collectors.toList());
+
+                    String nextCursor = next != null ? next.encode() : null;
+                    return enrichTasksReactive(tasks).map(enriched -> TaskPage.builder()
+                            .tasks(enriched)
+                            .state(state)
+                            .limit(effectiveLimit)
+                            .nextCursor(nextCursor)
+                            .hasMore(nextCursor != null)
+                            .build());
+                });
+    }
+
+    private Mono<TaskPage> getCompletedHistoryPage(String employeeId, InboxCursor position, int limit) {
+        return Mono.fromCallable(() -> {
+                    List<TaskDTO> history = position == null
+                            ? refreshCompletedHistory(employeeId)
+                            : CompletedTaskHistory.union(
+                                    completedHistory.snapshot(new HistoryKey(employeeId, null)),
+                                    completedHistory.snapshot(new HistoryKey(null, "managers")));
+
+                    int from = 0;
+                    if (position != null && position.getSearchAfter() != null && position.getSearchAfter().size() == 2) {
+                        Object completedAt = position.getSearchAfter().get(0);
+                        from = CompletedTaskHistory.indexAfter(history,
+                                completedAt != null ? LocalDateTime.parse(completedAt.toString()) : null,
+                                Objects.toString(position.getSearchAfter().get(1), null));
+                    }
+                    int to = Math.min(from + limit, history.size());
+                    List<TaskDTO> tasks = history.subList(from, to);
+
+                    String nextCursor = null;
+                    if (to < history.size()) {
+                        TaskDTO last = tasks.get(tasks.size() - 1);
+                        List<Object> searchAfter = new ArrayList<>(2);
+                        searchAfter.add(last.getCompletionDate() != null ? last.getCompletionDate().toString() : null);
+                        searchAfter.add(last.getTaskId());
+                        nextCursor = new InboxCursor(InboxCursor.Source.HISTORY, searchAfter).encode();
+                    }
+
+                    return TaskPage.builder()
+                            .tasks(List.copyOf(tasks))
+                            .state("COMPLETED")
+                            .limit(limit)
+                            .nextCursor(nextCursor)
+                            .hasMore(nextCursor != null)
+                            .build();
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<List<TaskDTO>> enrichTasksReactive(List<TaskDTO> tasks) {
+        if (tasks.isEmpty()) return Mono.just(tasks);
+        return Mono.fromCallable(() -> {
+                    enrichTasksWithProcessVariablesOptimized(tasks);
+                    return tasks;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Runs a blocking search + enrichment off the caller thread so it can be shared by the coalescer
+    private Mono<List<TaskDTO>> blockingLoad(Supplier<List<TaskDTO>> search) {
+        return Mono.fromCallable(() -> {
+                    List<TaskDTO> tasks = search.get();
+                    enrichTasksWithProcessVariablesOptimized(tasks);
+                    return tasks;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
     private List<TaskDTO> getPendingTasks(String employeeId, String role) {
         return mergeAssigneeAndGroupTasks(employeeId, "managers", "CREATED");
     }
@@ -103,13 +394,13 @@ public class EnhancedUserTaskService {
 
         // First, get tasks by assignee
         Map<String, Object> assigneeQuery = buildEnhancedTaskQuery(employeeId, null, state);
-        List<TaskDTO> assigneeTasks = searchTasks(assigneeQuery);
+        List<TaskDTO> assigneeTasks = searchAllTasksBlocking(assigneeQuery);
         log.info("📋 Found {} direct tasks for assignee {}", assigneeTasks.size(), employeeId);
         all.addAll(assigneeTasks);
 
         // Then, get tasks by candidate group
         Map<String, Object> groupQuery = buildEnhancedTaskQuery(null, group, state);
-        List<TaskDTO> groupTasks = searchTasks(groupQuery);
+        List<TaskDTO> groupTasks = searchAllTasksBlocking(groupQuery);
         log.info("📋 Found {} group tasks for {}", groupTasks.size(), group);
         all.addAll(groupTasks);
 
@@ -126,7 +417,7 @@ public class EnhancedUserTaskService {
         
         // ✅ FIXED: State goes at TOP LEVEL, not under filter
         query.put("state", state);
-        query.put("pageSize", DEFAULT_PAGE_SIZE);
+        query.put("pageSize", pageSize);
         
         // ✅ FIXED: Assignee and candidateGroup also go at top level
         if (assignee != null && !assignee.isBlank()) {
@@ -149,6 +440,7 @@ public class EnhancedUserTaskService {
         includeVariables.add(Map.of("name", "travelPurpose", "alwaysReturnFullValue", false));
         includeVariables.add(Map.of("name", "projectId", "alwaysReturnFullValue", false));
         includeVariables.add(Map.of("name", "managerPresent", "alwaysReturnFullValue", false));
+        includeVariables.add(Map.of("name", "slaDeadline", "alwaysReturnFullValue", false));
 
         // ✅ NEW: include manager approval variables
         includeVariables.add(Map.of("name", "approved", "alwaysReturnFullValue", true));
@@ -163,14 +455,49 @@ public class EnhancedUserTaskService {
         return query;
     }
 
+    private Mono<List<TaskDTO>> completedTasksLoad(String employeeId, String role) {
+        if (!historyEnabled) {
+            return blockingLoad(() -> getCompletedTasks(employeeId, role));
+        }
+        return Mono.fromCallable(() -> refreshCompletedHistory(employeeId).stream().sorted(NEWEST_FIRST).toList())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // Brings the assignee and "managers" histories up to date; only newly completed tasks are fetched and enriched
+    private List<TaskDTO> refreshCompletedHistory(String employeeId) {
+        List<TaskDTO> assigned = completedHistory.refresh(new HistoryKey(employeeId, null),
+                since -> fetchCompletedSince(employeeId, null, since),
+                this::enrichTasksWithProcessVariablesOptimized);
+        List<TaskDTO> group = completedHistory.refresh(new HistoryKey(null, "managers"),
+                since -> fetchCompletedSince(null, "managers", since),
+                this::enrichTasksWithProcessVariablesOptimized);
+        return CompletedTaskHistory.union(assigned, group);
+    }
+
+    // Walks COMPLETED tasks newest completion first and stops at the first one older than the watermark.
+    // Tasks completed exactly at the watermark are fetched again and dropped by id in the history.
+    private List<TaskDTO> fetchCompletedSince(String assignee, String group, LocalDateTime watermark) {
+        Map<String, Object> query = buildEnhancedTaskQuery(assignee, group, "COMPLETED");
+        query.put("sort", COMPLETION_TIME_DESC);
+
+        List<TaskDTO> tasks = walkTaskPages(query, true, completedHistory.getRetention())
+                .takeWhile(t -> watermark == null || t.getCompletionDate() == null
+                        || !t.getCompletionDate().isBefore(watermark))
+                .collectList()
+                .block(SEARCH_ALL_TIMEOUT);
+        log.info("📋 Fetched {} completed tasks since {} for assignee={} group={}",
+                tasks != null ? tasks.size() : 0, watermark, assignee, group);
+        return tasks != null ? tasks : Collections.emptyList();
+    }
+
     private List<TaskDTO> getCompletedTasks(String employeeId, String role) {
         // Get completed tasks by assignee
         Map<String, Object> assigneeQuery = buildEnhancedTaskQuery(employeeId, null, "COMPLETED");
-        List<TaskDTO> assigneeCompleted = searchTasks(assigneeQuery);
+        List<TaskDTO> assigneeCompleted = searchAllTasksBlocking(assigneeQuery);
         
         // Get completed tasks by candidate group
         Map<String, Object> groupQuery = buildEnhancedTaskQuery(null, "managers", "COMPLETED");
-        List<TaskDTO> groupCompleted = searchTasks(groupQuery);
+        List<TaskDTO> groupCompleted = searchAllTasksBlocking(groupQuery);
         
         List<TaskDTO> allCompleted = new ArrayList<>();
         allCompleted.addAll(assigneeCompleted);
@@ -180,12 +507,15 @@ public class EnhancedUserTaskService {
         
         // ✅ REMOVED: No client-side filtering needed - API handles it now
         
-        // Remove duplicates and sort by creation date (newest first)
-        return allCompleted.stream()
+        return dedupeNewestFirst(allCompleted);
+    }
+
+    // Remove duplicates (first occurrence wins) and sort by creation date (newest first)
+    static List<TaskDTO> dedupeNewestFirst(List<TaskDTO> tasks) {
+        return tasks.stream()
                 .collect(Collectors.toMap(TaskDTO::getTaskId, t -> t, (a, b) -> a))
                 .values().stream()
-                .sorted(Comparator.comparing(TaskDTO::getCreatedDate, 
-                        Comparator.nullsLast(Comparator.reverseOrder())))
+                .sorted(NEWEST_FIRST)
                 .toList();
     }
 
@@ -199,12 +529,12 @@ public class EnhancedUserTaskService {
             
             // Ensure pageSize is set
             if (!requestBody.containsKey("pageSize")) {
-                requestBody.put("pageSize", DEFAULT_PAGE_SIZE);
+                requestBody.put("pageSize", pageSize);
             }
 
             log.debug("📤 Sending Tasklist body: {}", requestBody);
 
-            JsonNode resp = tasklistClient.post()
+            byte[] resp = tasklistClient.post()
                     .uri("/v1/tasks/search")
                     .contentType(MediaType.APPLICATION_JSON)
                     .accept(MediaType.APPLICATION_JSON)
@@ -218,30 +548,10 @@ public class EnhancedUserTaskService {
                                         return new RuntimeException("Tasklist API error: " + error);
                                     })
                     )
-                    .bodyToMono(JsonNode.class)
+                    .bodyToMono(byte[].class)
                     .block(Duration.ofSeconds(10));
 
-            // ... rest of your existing method remains the same
-
-            if (resp == null || resp.isNull()) {
-                log.warn("⚠️ Task search returned null or empty response");
-                return Collections.emptyList();
-            }
-
-            List<Map<String, Object>> items = new ArrayList<>();
-
-            if (resp.isArray()) {
-                items = objectMapper.convertValue(resp, new TypeReference<>() {});
-                log.info("✅ Tasklist returned array with {} items", items.size());
-            } else if (resp.has("items")) {
-                items = objectMapper.convertValue(resp.get("items"), new TypeReference<>() {});
-                log.info("✅ Tasklist returned object wrapper with {} items", items.size());
-            } else {
-                log.warn("⚠️ Tasklist returned unexpected JSON: {}", resp);
-                return Collections.emptyList();
-            }
-
-            return items.stream().map(this::mapToTaskDTO).collect(Collectors.toList());
+            return taskDecoder.decode(resp).tasks();
 
         } catch (WebClientResponseException e) {
             log.error("❌ Task search failed with status {}: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -252,269 +562,196 @@ public class EnhancedUserTaskService {
         }
     }
 
- // ✅ FIXED: Correct state mapping with proper validation
-    private TaskDTO mapToTaskDTO(Map<String, Object> data) {
-        TaskDTO dto = new TaskDTO();
-        
-        // Basic task information
-        dto.setTaskId(firstNonNullString(data.get("id"), data.get("taskId")));
-        dto.setTaskName((String) data.get("name"));
-        dto.setProcessInstanceId(firstNonNullString(data.get("processInstanceId"), data.get("processInstanceKey")));
-        dto.setProcessDefinitionId(firstNonNullString(data.get("processDefinitionId"), data.get("processDefinitionKey")));
-        
-        dto.setCreatedDate(parseDateTimeSafe(firstNonNullString(data.get("creationDate"), data.get("createdDate"))));
-        dto.setDueDate(parseDateTimeSafe((String) data.get("dueDate")));
-        
-        dto.setAssignee((String) data.get("assignee"));
-        
-        // ✅ FIXED: Extract candidate group from response
-        if (data.containsKey("candidateGroups") && data.get("candidateGroups") instanceof List) {
-            List<String> groups = (List<String>) data.get("candidateGroups");
-            if (groups != null && !groups.isEmpty()) {
-                dto.setCandidateGroup(groups.get(0)); // Take first candidate group
-            }
-        }
-        
-        // ✅ FIXED: Extract variables from the correct location
-        Map<String, Object> taskVariables = extractVariablesFromTask(data);
-        dto.setVariables(taskVariables);
-        
-        // ✅ FIXED: PROPER STATE MAPPING - This is the key fix!
-        String taskState = (String) data.get("taskState");
-        String normalizedState = taskState == null ? "UNKNOWN" : taskState.toUpperCase(Locale.ROOT);
-        
-        // Validate state against known values
-        if (!Arrays.asList("CREATED", "COMPLETED", "CANCELED").contains(normalizedState)) {
-            log.warn("⚠️ Unexpected task state '{}' for task {}, defaulting to CREATED", normalizedState, dto.getTaskId());
-            normalizedState = "CREATED";
-        }
-        
-        // Set both status and processState to the same value for consistency
-        dto.setStatus(normalizedState);
-        dto.setProcessState(normalizedState);
-        
-        // Log completion for debugging
-        if ("COMPLETED".equals(normalizedState)) {
-            String completionDate = firstNonNullString(data.get("completionDate"));
-            log.debug("✅ Found COMPLETED task {} with completion date: {}", dto.getTaskId(), completionDate);
-        }
-        
-        dto.setOutcome(extractOutcome(data));
-        dto.setCurrentStep((String) data.get("name"));
-        
-        return dto;
+    // Non-blocking counterpart of searchTasks; errors degrade to an empty result like the blocking version
+    public Flux<TaskDTO> searchTasksReactive(Map<String, Object> queryParams) {
+        return fetchTaskPage(queryParams, null).flatMapIterable(TasklistTaskDecoder.Page::tasks);
     }
 
-    // Helper method for flexible field mapping
-    private static String firstNonNullString(Object... objs) {
-        for (Object o : objs) {
-            if (o != null) {
-                String str = o.toString();
-                if (!str.isBlank()) {
-                    return str;
-                }
-            }
-        }
-        return null;
+    // Lazily follows Tasklist searchAfter cursors until a short page, capped at maxResults tasks.
+    // Further pages are only requested while the subscriber still wants items.
+    public Flux<TaskDTO> searchAllTasks(Map<String, Object> queryParams) {
+        return walkTaskPages(queryParams, false, maxResults);
     }
 
-    private LocalDateTime parseDateTimeSafe(String value) {
-        if (value == null || value.isBlank()) return null;
-        try {
-            String clean = value.strip();
-            if (clean.startsWith("\"") && clean.endsWith("\"")) {
-                clean = clean.substring(1, clean.length() - 1);
-            }
-
-            // Normalize offsets without colon: +0000 -> +00:00
-            String normalized = clean.replaceAll("([+-]\\d{2})(\\d{2})$", "$1:$2");
-
-            // Try parse as OffsetDateTime (preferred) with timezone conversion
-            try {
-                OffsetDateTime odt = OffsetDateTime.parse(normalized);
-                return odt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
-            } catch (DateTimeParseException ignored) {}
-
-            // Fallback: try ISO_LOCAL
-            try {
-                return LocalDateTime.parse(clean, DateTimeFormatter.ISO_DATE_TIME);
-            } catch (DateTimeParseException ignored) {}
-
-            log.warn("Failed to parse date '{}' with any format", clean);
-            return null;
-        } catch (Exception e) {
-            log.warn("Failed to parse date '{}': {}", value, e.getMessage());
-            return null;
-        }
+    private Flux<TaskDTO> walkTaskPages(Map<String, Object> queryParams, boolean failOnError, int cap) {
+        int requestedPageSize = queryParams.get("pageSize") instanceof Number n ? n.intValue() : pageSize;
+        return fetchTaskPage(queryParams, null, failOnError)
+                .expand(page -> page.hasNext(requestedPageSize)
+                        ? fetchTaskPage(queryParams, page.sortValues(), failOnError)
+                        : Mono.empty())
+                .concatMapIterable(TasklistTaskDecoder.Page::tasks)
+                .take(cap);
     }
 
-    // ✅ FIXED: Improved variable extraction
-    private Map<String, Object> extractVariablesFromTask(Map<String, Object> data) {
-        Map<String, Object> vars = new LinkedHashMap<>();
-        try {
-            // ✅ FIXED: Extract from "variables" array in Tasklist API response
-            if (data.containsKey("variables") && data.get("variables") != null) {
-                Object raw = data.get("variables");
-                vars.putAll(extractVariablesFromRaw(raw));
-            }
-
-        } catch (Exception e) {
-            log.warn("Failed to extract vars from task: {}", e.getMessage());
-        }
-        return vars;
+    private List<TaskDTO> searchAllTasksBlocking(Map<String, Object> queryParams) {
+        List<TaskDTO> tasks = searchAllTasks(queryParams).collectList().block(SEARCH_ALL_TIMEOUT);
+        return tasks != null ? tasks : Collections.emptyList();
     }
 
-    private Map<String, Object> extractVariablesFromRaw(Object raw) {
-        Map<String, Object> vars = new LinkedHashMap<>();
-        try {
-            if (raw instanceof List<?> list) {
-                for (Object obj : list) {
-                    if (obj instanceof Map<?, ?> map) {
-                        String name = Objects.toString(map.get("name"), "");
-                        Object value = map.get("value");
-                        value = cleanVariableValue(value);
-                        if (!name.isEmpty()) vars.put(name, value);
-                    }
-                }
-            } else if (raw instanceof Map<?, ?> map) {
-                for (Map.Entry<?, ?> entry : map.entrySet()) {
-                    Object value = entry.getValue();
-                    value = cleanVariableValue(value);
-                    vars.put(entry.getKey().toString(), value);
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract from raw data: {}", e.getMessage());
-        }
-        return vars;
+    private Mono<TasklistTaskDecoder.Page> fetchTaskPage(Map<String, Object> queryParams, List<Object> searchAfter) {
+        return fetchTaskPage(queryParams, searchAfter, false);
     }
 
-    private Object cleanVariableValue(Object value) {
-        if (value instanceof String stringValue) {
-            // Remove surrounding quotes if present
-            if (stringValue.startsWith("\"") && stringValue.endsWith("\"")) {
-                return stringValue.substring(1, stringValue.length() - 1);
-            }
-            // Handle JSON-encoded values
-            if (stringValue.startsWith("\"{") && stringValue.endsWith("}\"")) {
-                return stringValue.substring(1, stringValue.length() - 1);
-            }
+    private Mono<TasklistTaskDecoder.Page> fetchTaskPage(Map<String, Object> queryParams, List<Object> searchAfter,
+                                             boolean failOnError) {
+        Map<String, Object> requestBody = new HashMap<>(queryParams);
+        requestBody.putIfAbsent("pageSize", pageSize);
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            requestBody.put("searchAfter", searchAfter);
         }
-        return value;
-    }
 
-    private String extractOutcome(Map<String, Object> data) {
-        Map<String, Object> vars = extractVariablesFromTask(data);
-        if (vars.containsKey("managerApproved"))
-            return Boolean.TRUE.equals(vars.get("managerApproved")) ? "APPROVED" : "REJECTED";
-        if (vars.containsKey("financeApproved"))
-            return Boolean.TRUE.equals(vars.get("financeApproved")) ? "APPROVED" : "REJECTED";
-        if (vars.containsKey("hrCompliant"))
-            return Boolean.TRUE.equals(vars.get("hrCompliant")) ? "COMPLIANT" : "NON_COMPLIANT";
-        return "UNKNOWN";
+        log.debug("📤 Sending Tasklist body (reactive): {}", requestBody);
+
+        Mono<TasklistTaskDecoder.Page> page = tasklistClient.post()
+                .uri("/v1/tasks/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .map(error -> {
+                                    log.error("❌ Tasklist API error: {}", error);
+                                    return new RuntimeException("Tasklist API error: " + error);
+                                })
+                )
+                .bodyToMono(byte[].class)
+                .timeout(Duration.ofSeconds(10))
+                .map(taskDecoder::decode)
+                .defaultIfEmpty(TasklistTaskDecoder.Page.EMPTY);
+
+        if (failOnError) return page;
+        return page.onErrorResume(e -> {
+            log.error("❌ Task search failed: {}", e.getMessage());
+            return Mono.empty();
+        });
     }
 
     public Map<String, Object> fetchProcessVariables(String processInstanceId) {
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("processInstanceKey", processInstanceId);
-            requestBody.put("pageSize", 100);
-            
-            JsonNode resp = tasklistClient.post()
-                    .uri("/v1/variables/search")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .accept(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block(Duration.ofSeconds(5));
-
-            if (resp != null && resp.has("items")) {
-                List<Map<String, Object>> items = objectMapper.convertValue(
-                        resp.get("items"), new TypeReference<>() {});
-                
-                Map<String, Object> cleanedVariables = new HashMap<>();
-                for (Map<String, Object> item : items) {
-                    String name = (String) item.get("name");
-                    Object value = item.get("value");
-                    value = cleanVariableValue(value);
-                    if (name != null && !name.isBlank()) {
-                        cleanedVariables.put(name, value);
-                    }
-                }
-                
-                log.debug("✅ Fetched {} variables for process {}", cleanedVariables.size(), processInstanceId);
-                return cleanedVariables;
-            } else {
-                log.warn("⚠️ No variables found for process {}", processInstanceId);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to fetch variables for process {}: {}", processInstanceId, e.getMessage());
-        }
-        return new HashMap<>();
+        return processVariableClient.fetchProcessVariables(processInstanceId);
     }
 
     // === Task Completion ===
     public void completeTaskWithAction(String taskId, TaskActionRequest action) {
         try {
-            Map<String, Object> vars = new HashMap<>();
-            if (action.getApproved() != null) vars.put("approved", action.getApproved());
-            if (action.getComments() != null) vars.put("comments", action.getComments());
-            if (action.getAdditionalVariables() != null) vars.putAll(action.getAdditionalVariables());
-            completeTask(taskId, vars);
+            completeTask(taskId, actionVariables(action));
         } catch (Exception e) {
             log.error("❌ completeTaskWithAction failed: {}", e.getMessage(), e);
             throw new RuntimeException(e);
         }
     }
 
+    private static Map<String, Object> actionVariables(TaskActionRequest action) {
+        Map<String, Object> vars = new HashMap<>();
+        if (action.getApproved() != null) vars.put("approved", action.getApproved());
+        if (action.getComments() != null) vars.put("comments", action.getComments());
+        if (action.getAdditionalVariables() != null) vars.putAll(action.getAdditionalVariables());
+        return vars;
+    }
 
-    
-    public void completeTask(String taskId, Map<String, Object> vars) {
-        try {
-            // ✅ FIXED: Variables should be sent as an array, not an object
-            List<Map<String, Object>> variablesList = new ArrayList<>();
-            
-            if (!vars.isEmpty()) {
-                for (Map.Entry<String, Object> entry : vars.entrySet()) {
-                    Map<String, Object> variableMap = new HashMap<>();
-                    variableMap.put("name", entry.getKey());
-                    variableMap.put("value", entry.getValue());
-                    // Optionally, you can add type information if needed
-                    // variableMap.put("type", getVariableType(entry.getValue()));
-                    variablesList.add(variableMap);
-                }
-            }
-
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("variables", variablesList);
+    // === Bulk Task Completion ===
+    // Completes every task with the same variables, keeping at most bulkConcurrency PATCHes in flight.
+    // A failing task never aborts the batch; each task gets its own entry in the report.
+    public Mono<BulkTaskActionResponse> completeTasks(BulkTaskActionRequest request, boolean approved) {
+        List<String> taskIds = request.getTaskIds() == null ? List.of() : request.getTaskIds().stream()
+                .filter(id -> id != null && !id.isBlank())
+                .distinct()
+                .toList();
+        if (taskIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "taskIds must not be empty");
+        }
+        if (taskIds.size() > bulkMaxTasks) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "At most " + bulkMaxTasks + " tasks per bulk request, got " + taskIds.size());
+        }
 
-            log.debug("📤 Sending completion request for task {}: {}", taskId, requestBody);
+        Map<String, Object> vars = actionVariables(TaskActionRequest.builder()
+                .approved(approved)
+                .comments(request.getComments())
+                .additionalVariables(request.getAdditionalVariables())
+                .build());
+
+        long startTime = System.currentTimeMillis();
+        return Flux.fromIterable(taskIds)
+                .flatMapSequential(taskId -> completeTaskReactive(taskId, vars)
+                        .thenReturn(BulkTaskActionResponse.TaskResult.builder().taskId(taskId).success(true).build())
+                        .onErrorResume(e -> Mono.just(BulkTaskActionResponse.TaskResult.builder()
+                                .taskId(taskId)
+                                .success(false)
+                                .error(e.getMessage())
+                                .build())),
+                        bulkConcurrency)
+                .collectList()
+                .map(results -> {
+                    int succeeded = (int) results.stream().filter(BulkTaskActionResponse.TaskResult::isSuccess).count();
+                    long duration = System.currentTimeMillis() - startTime;
+                    log.info("✅ Bulk {} completed {}/{} tasks in {}ms",
+                            approved ? "approval" : "rejection", succeeded, results.size(), duration);
+                    return BulkTaskActionResponse.builder()
+                            .requested(results.size())
+                            .succeeded(succeeded)
+                            .failed(results.size() - succeeded)
+                            .durationMs(duration)
+                            .results(results)
+                            .build();
+                });
+    }
 
-            JsonNode response = tasklistClient.patch()
-                    .uri("/v1/tasks/{taskId}/complete", taskId)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .onStatus(
-                            status -> status.is4xxClientError() || status.is5xxServerError(),
-                            clientResponse -> clientResponse.bodyToMono(String.class)
-                                    .map(error -> {
-                                        log.error("❌ Task completion API error: Status {} - {}", 
-                                                clientResponse.statusCode(), error);
-                                        return new RuntimeException("Task completion failed: " + error);
-                                    })
-                    )
-                    .bodyToMono(JsonNode.class)
-                    .block(Duration.ofSeconds(10));
-            
-            log.info("✅ Completed task {} with variables: {}", taskId, vars);
+    public void completeTask(String taskId, Map<String, Object> vars) {
+        try {
+            completeTaskReactive(taskId, vars).block(Duration.ofSeconds(10));
         } catch (Exception e) {
             log.error("❌ Task completion failed for {}: {}", taskId, e.getMessage(), e);
             throw new RuntimeException("Failed to complete task: " + taskId, e);
         }
     }
 
+    public Mono<Void> completeTaskReactive(String taskId, Map<String, Object> vars) {
+        // ✅ FIXED: Variables should be sent as an array, not an object
+        List<Map<String, Object>> variablesList = new ArrayList<>();
+
+        if (!vars.isEmpty()) {
+            for (Map.Entry<String, Object> entry : vars.entrySet()) {
+                Map<String, Object> variableMap = new HashMap<>();
+                variableMap.put("name", entry.getKey());
+                variableMap.put("value", entry.getValue());
+                // Optionally, you can add type information if needed
+                // variableMap.put("type", getVariableType(entry.getValue()));
+                variablesList.add(variableMap);
+            }
+        }
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("variables", variablesList);
+
+        log.debug("📤 Sending completion request for task {}: {}", taskId, requestBody);
+
+        return tasklistClient.patch()
+                .uri("/v1/tasks/{taskId}/complete", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .onStatus(
+                        status -> status.is4xxClientError() || status.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .map(error -> {
+                                    log.error("❌ Task completion API error: Status {} - {}",
+                                            clientResponse.statusCode(), error);
+                                    return new RuntimeException("Task completion failed: " + error);
+                                })
+                )
+                .toBodilessEntity()
+                .timeout(Duration.ofSeconds(10))
+                .doOnSuccess(ignored -> {
+                    taskProjection.markCompleted(taskId, vars);
+                    // Don't serve a pre-completion inbox from the coalescing TTL
+                    inboxLoadCoalescer.invalidateAll();
+                    log.info("✅ Completed task {} with variables: {}", taskId, vars);
+                })
+                .then();
+    }
+
     // Optional helper method to determine variable type
     private String getVariableType(Object value) {
         if (value == null) return "Null";
@@ -530,30 +767,29 @@ public class EnhancedUserTaskService {
 
 
     // === Manager lookup ===
+    // Answered from the org chart cache; employee-service is only called for employees it does not know yet
     public String getManagerForEmployee(String empId) {
-        try {
-            var e = employeeServiceClient.getEmployee(UUID.fromString(empId));
-            return e.getManagerId() != null ? e.getManagerId().toString() : null;
-        } catch (Exception ex) {
-            log.error("❌ getManagerForEmployee failed: {}", ex.getMessage());
-            return null;
-        }
+        return getManagerForEmployee(empId, 0);
     }
 
+    // depth = levels above the direct manager: 0 is the direct manager, 1 the skip-level manager
     public String getManagerForEmployee(String empId, int depth) {
         try {
-            UUID current = UUID.fromString(empId);
-            int level = 0;
-            while (current != null && level < depth) {
-                var e = employeeServiceClient.getEmployee(current);
-                if (e.getManagerId() != null) return e.getManagerId().toString();
-                current = e.getManagerId();
-                level++;
+            UUID employeeId = UUID.fromString(empId);
+            OrgChartCache.Lookup cached = orgChart.managerAbove(employeeId, depth);
+            if (cached.known()) {
+                return cached.managerId() != null ? cached.managerId().toString() : null;
             }
+
+            UUID current = employeeId;
+            for (int level = 0; current != null && level <= depth; level++) {
+                current = employeeServiceClient.getEmployee(current).getManagerId();
+            }
+            return current != null ? current.toString() : null;
         } catch (Exception e) {
-            log.error("❌ getManagerForEmployee(depth) failed: {}", e.getMessage());
+            log.error("❌ getManagerForEmployee(depth={}) failed: {}", depth, e.getMessage());
+            return null;
         }
-        return null;
     }
 
     // === Task Details with Progress Bar ===
@@ -573,7 +809,7 @@ public class EnhancedUserTaskService {
             }
 
             Map<String, Object> taskData = objectMapper.convertValue(response, new TypeReference<>() {});
-            TaskDTO dto = mapToTaskDTO(taskData);
+            TaskDTO dto = TaskMapper.mapToTaskDTO(taskData);
             enrichTaskDetails(dto);
 
             log.info("✅ Successfully retrieved task details for {}", taskId);
@@ -745,50 +981,28 @@ public class EnhancedUserTaskService {
         }
     }
     
-    private final Map<String, EmployeeProxyDTO> employeeCache = new ConcurrentHashMap<>();
-    private final Map<String, Map<String, Object>> variablesCache = new ConcurrentHashMap<>();
-    private static final Duration CACHE_TTL = Duration.ofMinutes(5);
-    private final Map<String, Instant> cacheTimestamps = new ConcurrentHashMap<>();
-    
     private EmployeeProxyDTO getCachedEmployee(String employeeId) {
-        String cacheKey = "employee:" + employeeId;
-        Instant timestamp = cacheTimestamps.get(cacheKey);
-        
-        if (timestamp != null && Instant.now().isBefore(timestamp.plus(CACHE_TTL))) {
-            return employeeCache.get(cacheKey);
-        }
-        
+        return enrichmentCache.getEmployee(employeeId);
+    }
+
+    private Map<String, Map<String, Object>> getCachedVariables(Set<String> processInstanceIds) {
         try {
-            EmployeeProxyDTO employee = employeeServiceClient.getEmployee(UUID.fromString(employeeId));
-            employeeCache.put(cacheKey, employee);
-            cacheTimestamps.put(cacheKey, Instant.now());
-            log.debug("✅ Cached employee profile: {}", employeeId);
-            return employee;
+            return enrichmentCache.getVariables(processInstanceIds);
         } catch (Exception e) {
-            log.warn("❌ Failed to fetch employee {}: {}", employeeId, e.getMessage());
-            return null;
+            log.warn("Failed to batch fetch process variables: {}", e.getMessage());
+            return Collections.emptyMap();
         }
     }
-    
-    private Map<String, Object> getCachedVariables(String processInstanceId) {
-        String cacheKey = "variables:" + processInstanceId;
-        Instant timestamp = cacheTimestamps.get(cacheKey);
-        
-        if (timestamp != null && Instant.now().isBefore(timestamp.plus(CACHE_TTL))) {
-            return variablesCache.get(cacheKey);
-        }
-        
-        Map<String, Object> variables = fetchProcessVariables(processInstanceId);
-        variablesCache.put(cacheKey, variables);
-        cacheTimestamps.put(cacheKey, Instant.now());
-        return variables;
-    }
-    
+
     private void enrichTasksWithProcessVariablesOptimized(List<TaskDTO> tasks) {
+        enrichTasksWithProcessVariablesOptimized(tasks, enrichmentExecutor.deadline());
+    }
+
+    // Every lookup shares one deadline; whatever is not loaded by then is left unenriched
+    private void enrichTasksWithProcessVariablesOptimized(List<TaskDTO> tasks, Instant deadline) {
         if (tasks.isEmpty()) return;
         
         // Step 1: Batch fetch variables for all unique process instances
-        Map<String, Map<String, Object>> processVariables = new HashMap<>();
         Set<String> uniqueProcessIds = tasks.stream()
                 .map(TaskDTO::getProcessInstanceId)
                 .filter(Objects::nonNull)
@@ -796,40 +1010,27 @@ public class EnhancedUserTaskService {
         
         log.info("🔄 Batch fetching variables for {} process instances", uniqueProcessIds.size());
         
-        uniqueProcessIds.parallelStream().forEach(processId -> {
-            try {
-                Map<String, Object> vars = getCachedVariables(processId);
-                processVariables.put(processId, vars);
-            } catch (Exception e) {
-                log.warn("Failed to fetch variables for process {}: {}", processId, e.getMessage());
-                processVariables.put(processId, new HashMap<>());
-            }
-        });
+        Map<String, Map<String, Object>> processVariables = enrichmentExecutor.call(
+                () -> getCachedVariables(uniqueProcessIds), deadline, Collections.emptyMap());
         
         // Step 2: Collect unique employee IDs
         Set<String> employeeIds = new HashSet<>();
         tasks.forEach(task -> {
             Map<String, Object> vars = processVariables.get(task.getProcessInstanceId());
             if (vars != null && vars.containsKey("employeeId")) {
-                String empId = cleanVariableValue(vars.get("employeeId")).toString();
+                String empId = TaskMapper.cleanVariableValue(vars.get("employeeId")).toString();
                 if (empId != null && !empId.isBlank()) {
                     employeeIds.add(empId);
                 }
             }
         });
         
-        // Step 3: Batch fetch employee profiles
-        Map<String, EmployeeProxyDTO> employeeProfiles = new HashMap<>();
-        employeeIds.forEach(empId -> {
-            try {
-                EmployeeProxyDTO employee = getCachedEmployee(empId);
-                if (employee != null) {
-                    employeeProfiles.put(empId, employee);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to fetch employee profile for {}: {}", empId, e.getMessage());
-            }
-        });
+        // Step 3: Fetch employee profiles in one batch call, falling back to single lookups if it fails
+        Map<String, EmployeeProxyDTO> batchProfiles = enrichmentExecutor.call(
+                () -> enrichmentCache.getEmployees(employeeIds), deadline, null);
+        Map<String, EmployeeProxyDTO> employeeProfiles = batchProfiles != null
+                ? batchProfiles
+                : enrichmentExecutor.fanOut(employeeIds, this::getCachedEmployee, deadline);
         
         // Step 4: Enrich tasks
         tasks.forEach(task -> {
@@ -847,7 +1048,7 @@ public class EnhancedUserTaskService {
                     
                     // Set employee profile
                     if (vars.containsKey("employeeId")) {
-                        String empId = cleanVariableValue(vars.get("employeeId")).toString();
+                        String empId = TaskMapper.cleanVariableValue(vars.get("employeeId")).toString();
                         EmployeeProxyDTO employee = employeeProfiles.get(empId);
                         if (employee != null) {
                             task.setEmployeeProfile(employee);
@@ -1,6 +1,5 @@
 package com.bwc.approval_workflow_service.workflow;
 
-import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
 import io.camunda.zeebe.spring.client.annotation.JobWorker;
@@ -16,11 +15,17 @@ import java.util.*;
 @Slf4j
 public class EnhancedWorkflowWorkers {
 
-    private final EmployeeServiceClient employeeServiceClient;
     private final EnhancedUserTaskService userTaskService;
-
-    @JobWorker(type = "validate-input", autoComplete = false)
+    private final TaskProjection taskProjection;
+    private final JobCompletions jobCompletions;
+    private final JobActivationLatency activationLatency;
+    private final ManagerAssignmentPool managerPool;
+
+    // The four back-to-back service tasks are pushed by the gateway as soon as they are created (job streaming);
+    // the worker keeps polling every pollInterval as a fallback, e.g. while the stream is reconnecting
+    @JobWorker(type = "validate-input", autoComplete = false, streamEnabled = true)
     public void validateInput(JobClient client, ActivatedJob job) {
+        activationLatency.activated(job);
         Map<String, Object> vars = job.getVariablesAsMap();
         try {
             log.info("🧪 validate-input started | vars={}", vars);
@@ -53,24 +58,18 @@ public class EnhancedWorkflowWorkers {
             out.put("validationErrors", isValid ? null : String.join("; ", errors));
             out.put("validationTimestamp", LocalDateTime.now().toString());
 
-            client.newCompleteCommand(job)
-                    .variables(out)
-                    .send()
-                    .join();
+            jobCompletions.complete(client, job, out);
 
             log.info("✅ validate-input completed | valid={} errors={}", isValid, out.get("validationErrors"));
         } catch (Exception e) {
             log.error("❌ validate-input failed: {}", e.getMessage(), e);
-            client.newFailCommand(job)
-                    .retries(Math.max(0, job.getRetries() - 1))
-                    .errorMessage(e.getMessage())
-                    .send()
-                    .join();
+            jobCompletions.fail(client, job, Math.max(0, job.getRetries() - 1), e.getMessage());
         }
     }
 
-    @JobWorker(type = "initialize-travel-process", autoComplete = false)
+    @JobWorker(type = "initialize-travel-process", autoComplete = false, streamEnabled = true)
     public void initializeTravelProcess(JobClient client, ActivatedJob job) {
+        activationLatency.activated(job);
         Map<String, Object> vars = job.getVariablesAsMap();
         try {
             String employeeId = (String) vars.get("employeeId");
@@ -134,7 +133,7 @@ public class EnhancedWorkflowWorkers {
                     out.put("riskCategory", calculateRiskCategory(vars));
                     out.put("slaDeadline", LocalDateTime.now().plusDays(3).toString());
 
-                    client.newCompleteCommand(job).variables(out).send().join();
+                    jobCompletions.complete(client, job, out);
                     log.info("✅ initialize-travel-process | Auto-approved due to no managers available");
                     return;
                 }
@@ -151,7 +150,8 @@ public class EnhancedWorkflowWorkers {
             out.put("slaDeadline", slaDeadline);
             out.put("managerAutoApproved", managerAutoApproved);
 
-            client.newCompleteCommand(job).variables(out).send().join();
+            // The manager approval task is created once the completion lands; pick it up without waiting for the next reconcile
+            jobCompletions.complete(client, job, out).thenRun(taskProjection::requestRefresh);
             log.info("✅ initialize-travel-process | managerId={}, riskCategory={}, slaDeadline={}", 
                     managerId, riskCategory, slaDeadline);
 
@@ -165,15 +165,13 @@ public class EnhancedWorkflowWorkers {
             fallbackVars.put("slaDeadline", LocalDateTime.now().plusDays(3).toString());
             fallbackVars.put("managerAutoApproved", false);
             
-            client.newCompleteCommand(job)
-                    .variables(fallbackVars)
-                    .send()
-                    .join();
+            jobCompletions.complete(client, job, fallbackVars);
         }
     }
 
-    @JobWorker(type = "validate-policy", autoComplete = false)
+    @JobWorker(type = "validate-policy", autoComplete = false, streamEnabled = true)
     public void validatePolicy(JobClient client, ActivatedJob job) {
+        activationLatency.activated(job);
         Map<String, Object> vars = job.getVariablesAsMap();
         try {
             String destination = (String) vars.get("destination");
@@ -182,22 +180,17 @@ public class EnhancedWorkflowWorkers {
             boolean withinPolicy = validateTravelPolicy(destination, amount);
             String policyViolations = withinPolicy ? null : "Amount exceeds policy limit for destination";
 
-            client.newCompleteCommand(job)
-                    .variables(Map.of(
-                            "withinPolicy", withinPolicy,
-                            "policyViolations", policyViolations
-                    ))
-                    .send()
-                    .join();
+            // HashMap: policyViolations is null when the request is within policy
+            Map<String, Object> out = new HashMap<>();
+            out.put("withinPolicy", withinPolicy);
+            out.put("policyViolations", policyViolations);
+
+            jobCompletions.complete(client, job, out).thenRun(taskProjection::requestRefresh);
 
             log.info("✅ validate-policy | dest={} amount={} withinPolicy={}", destination, amount, withinPolicy);
         } catch (Exception e) {
             log.error("❌ validate-policy failed: {}", e.getMessage(), e);
-            client.newFailCommand(job)
-                    .retries(Math.max(0, job.getRetries() - 1))
-                    .errorMessage(e.getMessage())
-                    .send()
-                    .join();
+            jobCompletions.fail(client, job, Math.max(0, job.getRetries() - 1), e.getMessage());
         }
     }
 
@@ -228,8 +221,9 @@ public class EnhancedWorkflowWorkers {
         log.info("📎 upload-attachments | {}", job.getVariablesAsMap());
     }
 
-    @JobWorker(type = "passthrough-risk", autoComplete = false)
+    @JobWorker(type = "passthrough-risk", autoComplete = false, streamEnabled = true)
     public void passthroughRisk(JobClient client, ActivatedJob job) {
+        activationLatency.activated(job);
         String bypass = Optional.ofNullable(job.getCustomHeaders().get("bypass")).orElse("false");
         String sla = Optional.ofNullable(job.getCustomHeaders().getOrDefault("sla", "PT30M")).orElse("PT30M");
 
@@ -241,30 +235,22 @@ public class EnhancedWorkflowWorkers {
         if ("true".equalsIgnoreCase(bypass)) {
             log.warn("⏭️ BYPASSING passthrough-risk | pi={} sla={} vars={}",
                      job.getProcessInstanceKey(), sla, job.getVariablesAsMap());
-            client.newCompleteCommand(job).variables(out).send().join();
+            jobCompletions.complete(client, job, out);
             return;
         }
 
-        client.newCompleteCommand(job).variables(out).send().join();
+        jobCompletions.complete(client, job, out);
     }
 
-    // Enhanced manager lookup with better error handling
+    // Fallback approver: the less loaded of two managers sampled from the cached pool
     private String getDefaultManager() {
-        try {
-            log.info("🔍 Looking for default manager...");
-            var managers = employeeServiceClient.getEmployeesByRole("MANAGER");
-            if (managers != null && !managers.isEmpty()) {
-                String managerId = managers.get(0).getEmployeeId().toString();
-                log.info("✅ Found default manager: {}", managerId);
-                return managerId;
-            } else {
-                log.warn("⚠️ No managers found in employee service");
-                return null;
-            }
-        } catch (Exception e) {
-            log.error("❌ Failed to get default manager: {}", e.getMessage());
-            return null;
+        String managerId = managerPool.pick();
+        if (managerId != null) {
+            log.info("✅ Assigned fallback manager {} (open tasks: {})", managerId, managerPool.load(managerId));
+        } else {
+            log.warn("⚠️ No managers available in the manager pool");
         }
+        return managerId;
     }
 
     private String calculateRiskCategory(Map<String, Object> vars) {
@@ -320,15 +306,11 @@ public class EnhancedWorkflowWorkers {
             log.info("🔧 Custom Headers: {}", job.getCustomHeaders());
             
             // Complete the job to let it proceed
-            client.newCompleteCommand(job).send().join();
+            jobCompletions.complete(client, job, Map.of());
             
         } catch (Exception e) {
             log.error("❌ User task creation failed: {}", e.getMessage(), e);
-            client.newFailCommand(job)
-                    .retries(0)
-                    .errorMessage("User task creation failed: " + e.getMessage())
-                    .send()
-                    .join();
+            jobCompletions.fail(client, job, 0, "User task creation failed: " + e.getMessage());
         }
     }
 }
\ No newline at end of file
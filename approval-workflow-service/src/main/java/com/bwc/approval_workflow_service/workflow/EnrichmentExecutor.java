@@ -0,0 +1,165 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dedicated, bounded pool for the blocking lookups behind inbox enrichment
+ * (employee profiles, process variables, cache refreshes).
+ *
+ * Keeps blocking HTTP off the ForkJoin common pool. Each enrichment call fans out at most
+ * {@code per-request-concurrency} lookups at a time and stops waiting at its deadline, returning
+ * whatever completed. When the queue is full the caller runs the lookup itself, which throttles
+ * producers instead of failing them.
+ *
+ * Metrics: {@code executor.*} (queue depth, active threads, task and queue-wait latency) tagged
+ * {@code name=workflow.enrichment}, plus {@code workflow.enrichment.deadline.exceeded}.
+ */
+@Component
+@Slf4j
+public class EnrichmentExecutor implements DisposableBean {
+
+    public static final String NAME = "workflow.enrichment";
+
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final int perRequestConcurrency;
+    private final Duration budget;
+    private final Counter deadlineExceeded;
+
+    public EnrichmentExecutor(MeterRegistry meterRegistry,
+                              @Value("${workflow.enrichment.pool-size:16}") int poolSize,
+                              @Value("${workflow.enrichment.queue-capacity:500}") int queueCapacity,
+                              @Value("${workflow.enrichment.per-request-concurrency:4}") int perRequestConcurrency,
+                              @Value("${workflow.enrichment.deadline:8s}") Duration budget) {
+        AtomicInteger threadIds = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "enrichment-" + threadIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, NAME);
+        this.perRequestConcurrency = Math.max(1, perRequestConcurrency);
+        this.budget = budget;
+        this.deadlineExceeded = Counter.builder("workflow.enrichment.deadline.exceeded")
+                .description("Enrichment lookups abandoned because the request deadline passed")
+                .register(meterRegistry);
+    }
+
+    // Deadline for an enrichment pass starting now
+    public Instant deadline() {
+        return Instant.now().plus(budget);
+    }
+
+    // Executor for asynchronous cache refreshes
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    /** Runs one blocking call on the pool, returning {@code fallback} if it fails or misses the deadline. */
+    public <T> T call(Callable<T> task, Instant deadline, T fallback) {
+        Future<T> future = executor.submit(task);
+        try {
+            return await(future, deadline) ? future.get() : fallback;
+        } catch (ExecutionException e) {
+            log.warn("⚠️ Enrichment call failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        }
+    }
+
+    /**
+     * Looks up every key with at most {@code per-request-concurrency} calls in flight.
+     * Keys that fail, return null or are not reached before the deadline are absent from the result.
+     */
+    public <K, V> Map<K, V> fanOut(Collection<K> keys, Function<K, V> lookup, Instant deadline) {
+        Map<K, V> results = new ConcurrentHashMap<>();
+        if (keys.isEmpty()) return results;
+
+        Queue<K> pending = new ConcurrentLinkedQueue<>(keys);
+        int workers = Math.min(perRequestConcurrency, keys.size());
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                K key;
+                while (Instant.now().isBefore(deadline) && (key = pending.poll()) != null) {
+                    try {
+                        V value = lookup.apply(key);
+                        if (value != null) results.put(key, value);
+                    } catch (Exception e) {
+                        log.warn("Failed enrichment lookup for {}: {}", key, e.getMessage());
+                    }
+                }
+            }));
+        }
+
+        try {
+            for (Future<?> future : futures) {
+                await(future, deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.forEach(f -> f.cancel(true));
+        }
+
+        if (!pending.isEmpty()) {
+            log.warn("⏱️ Enrichment deadline reached with {} of {} lookups outstanding", pending.size(), keys.size());
+        }
+        return results;
+    }
+
+    // Waits for the future until the deadline; cancels it and returns false if the deadline passes first
+    private boolean await(Future<?> future, Instant deadline) throws InterruptedException {
+        if (future.isDone()) return true;
+        long remaining = Duration.between(Instant.now(), deadline).toNanos();
+        try {
+            if (remaining > 0) {
+                future.get(remaining, TimeUnit.NANOSECONDS);
+                return true;
+            }
+        } catch (TimeoutException ignored) {
+        } catch (ExecutionException e) {
+            return true;
+        }
+        future.cancel(true);
+        deadlineExceeded.increment();
+        return false;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
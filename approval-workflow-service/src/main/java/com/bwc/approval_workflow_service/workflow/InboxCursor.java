@@ -0,0 +1,69 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position inside a paged inbox walk.
+ *
+ * An inbox is the union of two Tasklist searches (by assignee, then by candidate group),
+ * so the cursor records which search we are in and the Tasklist {@code searchAfter}
+ * sort values of the last task returned from it. Completed pages served from the local
+ * history use {@code HISTORY} with the completion date and task id of the last task instead.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxCursor {
+
+    public enum Source { ASSIGNEE, GROUP, HISTORY }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Source source;
+    private List<Object> searchAfter;
+
+    public static InboxCursor start() {
+        return new InboxCursor(Source.ASSIGNEE, null);
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode inbox cursor", e);
+        }
+    }
+
+    public static InboxCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return start();
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            InboxCursor decoded = MAPPER.readValue(json, InboxCursor.class);
+            if (decoded.getSource() == null) throw new IllegalArgumentException("missing source");
+            if (decoded.getSource() == Source.HISTORY) validateHistoryPosition(decoded.getSearchAfter());
+            return decoded;
+        } catch (Exception e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid inbox cursor", e);
+        }
+    }
+
+    // History positions are [completionDate, taskId]; a malformed date fails here rather than mid-page
+    private static void validateHistoryPosition(List<Object> searchAfter) {
+        if (searchAfter == null) return;
+        if (searchAfter.size() != 2) throw new IllegalArgumentException("history position needs 2 values");
+        Object completedAt = searchAfter.get(0);
+        if (completedAt != null) LocalDateTime.parse(completedAt.toString());
+    }
+}
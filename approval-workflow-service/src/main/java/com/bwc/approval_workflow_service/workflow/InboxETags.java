@@ -0,0 +1,99 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.dto.UserTasksResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Conditional GET support for inbox responses.
+ *
+ * The version is a hash of the sorted pending and completed task IDs with their state and assignee,
+ * so it changes whenever a task enters or leaves the inbox, changes state, or is claimed or
+ * reassigned. Ordering and enrichment details are not part of it, hence a weak ETag. A matching
+ * {@code If-None-Match} answers 304 without a body; those responses are counted in
+ * {@code workflow.inbox.not-modified}.
+ */
+@Component
+public class InboxETags {
+
+    private final Counter notModified;
+
+    public InboxETags(MeterRegistry meterRegistry) {
+        this.notModified = Counter.builder("workflow.inbox.not-modified")
+                .description("Inbox requests answered 304 Not Modified")
+                .register(meterRegistry);
+    }
+
+    public Mono<ResponseEntity<UserTasksResponse>> conditional(Mono<UserTasksResponse> inbox, String ifNoneMatch) {
+        return inbox.map(response -> {
+            String etag = etag(response);
+            if (matches(ifNoneMatch, etag)) {
+                notModified.increment();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<UserTasksResponse>build();
+            }
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .eTag(etag)
+                    .body(response);
+        });
+    }
+
+    public static String etag(UserTasksResponse response) {
+        MessageDigest digest = sha256();
+        digest.update(Objects.toString(response.getUserInfo() != null ? response.getUserInfo().getEmployeeId() : null)
+                .getBytes(StandardCharsets.UTF_8));
+        update(digest, 'P', response.getPendingTasks());
+        update(digest, 'C', response.getCompletedTasks());
+        return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    private static void update(MessageDigest digest, char section, List<TaskDTO> tasks) {
+        digest.update((byte) section);
+        if (tasks == null) return;
+        tasks.stream()
+                .map(t -> t.getTaskId() + "=" + t.getStatus() + "@" + Objects.toString(t.getAssignee(), ""))
+                .sorted()
+                .forEach(entry -> {
+                    digest.update(entry.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) ';');
+                });
+    }
+
+    // Weak comparison (RFC 9110 §8.8.3.2): opaque tags must match, W/ prefixes are ignored
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || stripWeak(tag).equals(opaque)) return true;
+        }
+        return false;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
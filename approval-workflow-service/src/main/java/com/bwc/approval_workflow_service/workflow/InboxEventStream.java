@@ -0,0 +1,94 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Fans task lifecycle events out to connected inbox clients as server-sent events.
+ *
+ * Events come from the task projection, so a client sees a delta as soon as a completion
+ * goes through this service or a reconciliation picks up a task created by a worker.
+ * Each subscriber gets its own bounded buffer; a slow client loses its oldest deltas
+ * rather than holding back everyone else, and should reload the inbox if it falls behind.
+ */
+@Component
+@Slf4j
+public class InboxEventStream {
+
+    // The role inboxes all read the "managers" candidate group (see EnhancedUserTaskService)
+    private static final String INBOX_GROUP = "managers";
+
+    private final Sinks.Many<TaskLifecycleEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final Counter dropped;
+    private final Duration heartbeat;
+    private final int bufferSize;
+
+    public InboxEventStream(MeterRegistry meterRegistry,
+                            @Value("${workflow.inbox.stream.heartbeat:15s}") Duration heartbeat,
+                            @Value("${workflow.inbox.stream.buffer-size:256}") int bufferSize) {
+        this.heartbeat = heartbeat;
+        this.bufferSize = bufferSize;
+        Gauge.builder("workflow.inbox.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Connected inbox event stream clients")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("workflow.inbox.stream.dropped")
+                .description("Inbox deltas dropped for slow stream clients")
+                .register(meterRegistry);
+    }
+
+    // Called under the projection's write lock, so emissions are already serialised
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        if (event.isInitialLoad()) return;
+        sink.tryEmitNext(event);
+    }
+
+    public Flux<ServerSentEvent<TaskLifecycleEvent>> stream(String employeeId) {
+        Flux<ServerSentEvent<TaskLifecycleEvent>> deltas = sink.asFlux()
+                .filter(event -> concerns(event, employeeId))
+                .onBackpressureBuffer(bufferSize, event -> dropped.increment(), BufferOverflowStrategy.DROP_OLDEST)
+                .map(event -> ServerSentEvent.builder(event)
+                        .id(event.getTask().getTaskId() + ":" + event.getType())
+                        .event(event.getType().name())
+                        .build());
+
+        Flux<ServerSentEvent<TaskLifecycleEvent>> heartbeats = Flux.interval(heartbeat)
+                .map(tick -> ServerSentEvent.<TaskLifecycleEvent>builder().comment("heartbeat").build());
+
+        return Flux.merge(deltas, heartbeats)
+                .startWith(ServerSentEvent.<TaskLifecycleEvent>builder().comment("connected").build())
+                .doOnSubscribe(subscription -> {
+                    subscribers.incrementAndGet();
+                    log.debug("📡 Inbox stream opened for {}", employeeId);
+                })
+                .doFinally(signal -> {
+                    subscribers.decrementAndGet();
+                    log.debug("📴 Inbox stream closed for {} ({})", employeeId, signal);
+                });
+    }
+
+    // Same visibility as the inbox: assigned to the user, just taken away from them, or in the shared group
+    private static boolean concerns(TaskLifecycleEvent event, String employeeId) {
+        if (event.getTask() == null) return false;
+        return Objects.equals(event.getTask().getAssignee(), employeeId)
+                || Objects.equals(event.getPreviousAssignee(), employeeId)
+                || INBOX_GROUP.equals(event.getTask().getCandidateGroup());
+    }
+}
@@ -0,0 +1,98 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Single-flight layer for inbox task loads.
+ *
+ * Concurrent loads for the same (employeeId, role, state) share one in-flight Tasklist
+ * fan-out and its enriched result; the result is then reused for a short TTL. Failed
+ * loads are dropped immediately so the next caller retries. Every call is counted in
+ * {@code workflow.inbox.loads} tagged with how it was served:
+ * {@code leader} (ran the load), {@code in-flight} (joined a running load) or
+ * {@code cached} (reused a completed result).
+ */
+@Component
+@Slf4j
+public class InboxLoadCoalescer {
+
+    public record InboxKey(String employeeId, String role, String state) {
+    }
+
+    private final AsyncCache<InboxKey, List<TaskDTO>> loads;
+    private final boolean enabled;
+    private final Counter leaders;
+    private final Counter joined;
+    private final Counter cached;
+
+    public InboxLoadCoalescer(MeterRegistry meterRegistry,
+                              @Value("${workflow.inbox.coalescing.enabled:true}") boolean enabled,
+                              @Value("${workflow.inbox.coalescing.ttl:2s}") Duration ttl,
+                              @Value("${workflow.inbox.coalescing.maximum-size:1000}") long maximumSize) {
+        this.enabled = enabled;
+        // Expiry starts once a load completes; in-flight loads never expire
+        this.loads = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .buildAsync();
+        this.leaders = counter(meterRegistry, "leader");
+        this.joined = counter(meterRegistry, "in-flight");
+        this.cached = counter(meterRegistry, "cached");
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("workflow.inbox.loads")
+                .description("Inbox task loads by how they were served")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs {@code loader} unless an identical load is already running or finished within the TTL.
+     * The shared result is unmodifiable; callers must not mutate the returned tasks.
+     */
+    public Mono<List<TaskDTO>> load(InboxKey key, Supplier<Mono<List<TaskDTO>>> loader) {
+        if (!enabled) {
+            return Mono.defer(loader);
+        }
+        return Mono.defer(() -> {
+            AtomicBoolean leader = new AtomicBoolean();
+            CompletableFuture<List<TaskDTO>> result = loads.get(key, (k, executor) -> {
+                leader.set(true);
+                return loader.get().map(List::copyOf).toFuture();
+            });
+
+            if (leader.get()) {
+                leaders.increment();
+            } else if (result.isDone()) {
+                cached.increment();
+            } else {
+                joined.increment();
+                log.debug("🔗 Joined in-flight inbox load {}", key);
+            }
+
+            // One caller cancelling must not cancel the load shared with everyone else
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    public void invalidateAll() {
+        loads.synchronous().invalidateAll();
+    }
+}
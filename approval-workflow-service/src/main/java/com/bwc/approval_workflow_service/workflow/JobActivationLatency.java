@@ -0,0 +1,56 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Measures how long a process instance waits between two of our service tasks.
+ *
+ * When this service sends the completion of a job, the time is remembered per process instance;
+ * when the next job of the same instance reaches a handler, the gap is recorded in
+ * {@code workflow.jobs.activation.latency} tagged with the job type. With polling the gap includes
+ * up to one poll interval of idle time; with job streaming it is close to the broker's own latency.
+ */
+@Component
+public class JobActivationLatency {
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<Long, Long> lastCompletionNanos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public JobActivationLatency(MeterRegistry meterRegistry,
+                                @Value("${workflow.jobs.activation.track-for:PT5M}") Duration trackFor) {
+        this.meterRegistry = meterRegistry;
+        // Instances that never reach another of our service tasks simply expire
+        this.lastCompletionNanos = Caffeine.newBuilder()
+                .expireAfterWrite(trackFor)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void completed(ActivatedJob job) {
+        lastCompletionNanos.put(job.getProcessInstanceKey(), System.nanoTime());
+    }
+
+    public void activated(ActivatedJob job) {
+        Long previous = lastCompletionNanos.asMap().remove(job.getProcessInstanceKey());
+        if (previous == null) return;
+        timers.computeIfAbsent(job.getType(), type -> Timer.builder("workflow.jobs.activation.latency")
+                        .description("Time from completing a job to the next job of the same process instance reaching a handler")
+                        .tag("type", type)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry))
+                .record(Duration.ofNanos(System.nanoTime() - previous));
+    }
+}
@@ -0,0 +1,147 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Non-blocking complete/fail commands for job workers.
+ *
+ * Handlers hand the command to the gateway and return, so a worker thread is never parked for a
+ * gateway round trip. The outcome is handled in callbacks: transient gateway errors (unavailable,
+ * resource exhausted, deadline exceeded) are retried with a linear backoff up to
+ * {@code workflow.jobs.completion.max-attempts}; anything else is logged and the job is left to
+ * time out and be reactivated by the broker.
+ *
+ * Metrics: {@code workflow.jobs.commands} tagged by job type, command and outcome
+ * ({@code ok}, {@code retried}, {@code error}), and the {@code workflow.jobs.commands.in-flight} gauge.
+ */
+@Component
+@Slf4j
+public class JobCompletions implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final JobActivationLatency activationLatency;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-command-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JobCompletions(MeterRegistry meterRegistry,
+                          JobActivationLatency activationLatency,
+                          @Value("${workflow.jobs.completion.max-attempts:3}") int maxAttempts,
+                          @Value("${workflow.jobs.completion.retry-backoff:200ms}") Duration retryBackoff) {
+        this.meterRegistry = meterRegistry;
+        this.activationLatency = activationLatency;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        Gauge.builder("workflow.jobs.commands.in-flight", inFlight, AtomicInteger::get)
+                .description("Job complete/fail commands sent and not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    /** Sends the complete command; the returned future settles once the gateway acknowledged it or gave up. */
+    public CompletableFuture<Void> complete(JobClient client, ActivatedJob job, Map<String, Object> variables) {
+        // Marked before sending: with streaming the next job can arrive before our acknowledgement does
+        activationLatency.completed(job);
+        return send(job, "complete", () -> client.newCompleteCommand(job).variables(variables).send());
+    }
+
+    public CompletableFuture<Void> fail(JobClient client, ActivatedJob job, int retries, String errorMessage) {
+        return send(job, "fail", () -> client.newFailCommand(job)
+                .retries(retries)
+                .errorMessage(errorMessage)
+                .send());
+    }
+
+    private CompletableFuture<Void> send(ActivatedJob job, String command, Supplier<? extends CompletionStage<?>> sender) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        inFlight.incrementAndGet();
+        result.whenComplete((ignored, error) -> inFlight.decrementAndGet());
+        attempt(job, command, sender, 1, result);
+        return result;
+    }
+
+    private void attempt(ActivatedJob job, String command, Supplier<? extends CompletionStage<?>> sender,
+                         int attempt, CompletableFuture<Void> result) {
+        CompletionStage<?> stage;
+        try {
+            stage = sender.get();
+        } catch (Exception e) {
+            stage = CompletableFuture.failedFuture(e);
+        }
+
+        stage.whenComplete((response, error) -> {
+            if (error == null) {
+                counter(job, command, "ok").increment();
+                result.complete(null);
+                return;
+            }
+
+            Throwable cause = unwrap(error);
+            if (attempt < maxAttempts && isTransient(cause)) {
+                counter(job, command, "retried").increment();
+                log.warn("🔁 {} of job {} ({}) failed on attempt {}, retrying: {}",
+                        command, job.getKey(), job.getType(), attempt, cause.getMessage());
+                retryScheduler.schedule(() -> attempt(job, command, sender, attempt + 1, result),
+                        retryBackoff.toMillis() * attempt, TimeUnit.MILLISECONDS);
+            } else {
+                counter(job, command, "error").increment();
+                log.error("❌ {} of job {} ({}) failed after {} attempt(s): {}",
+                        command, job.getKey(), job.getType(), attempt, cause.getMessage());
+                result.completeExceptionally(cause);
+            }
+        });
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    // Errors where the command never reached the broker or may succeed later; NOT_FOUND etc. will not
+    private static boolean isTransient(Throwable error) {
+        if (!(error instanceof ClientStatusException status)) return false;
+        Status.Code code = status.getStatusCode();
+        return code == Status.Code.UNAVAILABLE
+                || code == Status.Code.RESOURCE_EXHAUSTED
+                || code == Status.Code.DEADLINE_EXCEEDED;
+    }
+
+    private Counter counter(ActivatedJob job, String command, String outcome) {
+        return Counter.builder("workflow.jobs.commands")
+                .description("Job complete/fail commands by outcome")
+                .tag("type", job.getType())
+                .tag("command", command)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        retryScheduler.shutdownNow();
+    }
+}
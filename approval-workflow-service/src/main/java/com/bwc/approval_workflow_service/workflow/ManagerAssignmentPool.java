@@ -0,0 +1,141 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks a manager for approvals whose requester has no reachable manager.
+ *
+ * The MANAGER list is cached and reloaded every {@code workflow.manager-pool.refresh-interval}.
+ * Open-task load per assignee follows task lifecycle events: a task counts for its assignee from
+ * creation (or claim) until it is completed, canceled or reassigned. Each pick samples two managers
+ * at random and takes the less loaded one (power of two choices), which spreads a burst of fallback
+ * assignments even while the counts lag behind tasks that are about to be created.
+ *
+ * Metrics: {@code workflow.manager-pool.assignments} and the {@code workflow.manager-pool.size} gauge.
+ */
+@Component
+@Slf4j
+public class ManagerAssignmentPool {
+
+    private final EmployeeServiceClient employeeServiceClient;
+    private final boolean enabled;
+    private final Counter assignments;
+    private final Map<String, AtomicInteger> openTasks = new ConcurrentHashMap<>();
+    private volatile List<String> managers = List.of();
+
+    public ManagerAssignmentPool(EmployeeServiceClient employeeServiceClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${workflow.manager-pool.enabled:true}") boolean enabled) {
+        this.employeeServiceClient = employeeServiceClient;
+        this.enabled = enabled;
+        this.assignments = Counter.builder("workflow.manager-pool.assignments")
+                .description("Fallback approvals assigned from the manager pool")
+                .register(meterRegistry);
+        Gauge.builder("workflow.manager-pool.size", this, pool -> pool.managers.size())
+                .description("Managers available for fallback assignment")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.manager-pool.refresh-interval:PT5M}", initialDelayString = "PT10S")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            List<EmployeeProxyDTO> found = employeeServiceClient.getEmployeesByRole("MANAGER");
+            List<String> ids = found == null ? List.of() : found.stream()
+                    .map(EmployeeProxyDTO::getEmployeeId)
+                    .filter(Objects::nonNull)
+                    .map(Object::toString)
+                    .distinct()
+                    .toList();
+            managers = ids;
+            log.info("👥 Manager pool refreshed: {} managers", ids.size());
+        } catch (Exception e) {
+            // Keep assigning from the last known list
+            log.warn("⚠️ Manager pool refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // === Load tracking ===
+
+    // The projection's first snapshot counts too: it is the current open load
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        TaskDTO task = event.getTask();
+        if (task == null) return;
+
+        switch (event.getType()) {
+            case CREATED -> adjust(task.getAssignee(), 1);
+            case CLAIMED -> {
+                adjust(event.getPreviousAssignee(), -1);
+                adjust(task.getAssignee(), 1);
+            }
+            // Only tasks that were counted as open leave the count
+            case COMPLETED, CANCELED -> {
+                if ("CREATED".equals(event.getPreviousStatus())) adjust(event.getPreviousAssignee(), -1);
+            }
+        }
+    }
+
+    private void adjust(String assignee, int delta) {
+        if (assignee == null || assignee.isBlank()) return;
+        openTasks.computeIfAbsent(assignee, a -> new AtomicInteger())
+                .accumulateAndGet(delta, (current, d) -> Math.max(0, current + d));
+    }
+
+    // === Assignment ===
+
+    /** A manager for a fallback approval, or null when the pool is empty. */
+    public String pick() {
+        List<String> pool = managers;
+        if (pool.isEmpty()) {
+            // First use before the scheduled load, or every refresh so far failed
+            refresh();
+            pool = managers;
+            if (pool.isEmpty()) return null;
+        }
+
+        String chosen;
+        if (pool.size() == 1) {
+            chosen = pool.get(0);
+        } else {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(pool.size());
+            int second = random.nextInt(pool.size() - 1);
+            if (second >= first) second++;
+            String a = pool.get(first);
+            String b = pool.get(second);
+            chosen = load(b) < load(a) ? b : a;
+        }
+        assignments.increment();
+        return chosen;
+    }
+
+    public int load(String managerId) {
+        AtomicInteger count = openTasks.get(managerId);
+        return count != null ? count.get() : 0;
+    }
+
+    public List<String> managers() {
+        return managers;
+    }
+}
@@ -0,0 +1,188 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.bwc.approval_workflow_service.dto.OrgChartEntryDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory employee → (manager, level) map, so manager, skip-level and grade lookups do not call
+ * employee-service.
+ *
+ * The whole org chart is loaded in one call on the first tick and again every
+ * {@code workflow.org-chart.full-reload-interval} (which also drops deleted employees). In between,
+ * every {@code workflow.org-chart.refresh-interval} only the rows updated since the newest
+ * {@code updatedAt} already seen are fetched and applied. Employees that are not in the map are
+ * reported as a miss so callers can fall back to a direct lookup. Deactivated managers are skipped:
+ * their reports resolve to the next active manager further up the chain.
+ *
+ * Metrics: {@code workflow.org-chart.lookups} tagged {@code hit}/{@code miss}, and the
+ * {@code workflow.org-chart.size} gauge.
+ */
+@Component
+@Slf4j
+public class OrgChartCache {
+
+    /** {@code known} is false when the cache cannot answer; {@code managerId} may be null when it can. */
+    public record Lookup(boolean known, UUID managerId) {
+    }
+
+    public static final Lookup MISS = new Lookup(false, null);
+
+    // Guards walks against reporting cycles in bad data
+    private static final int MAX_CHAIN = 64;
+
+    private final EmployeeServiceClient employeeServiceClient;
+    private final boolean enabled;
+    private final Duration fullReloadInterval;
+    private final Counter hits;
+    private final Counter misses;
+
+    // managerId is the employee itself for someone without a manager
+    private record Node(UUID managerId, String level, boolean active) {
+    }
+
+    private volatile Map<UUID, Node> chart = new ConcurrentHashMap<>();
+    private volatile LocalDateTime watermark;
+    private volatile long lastFullLoadMillis;
+    private volatile boolean loaded;
+
+    public OrgChartCache(EmployeeServiceClient employeeServiceClient,
+                         MeterRegistry meterRegistry,
+                         @Value("${workflow.org-chart.enabled:true}") boolean enabled,
+                         @Value("${workflow.org-chart.full-reload-interval:PT1H}") Duration fullReloadInterval) {
+        this.employeeServiceClient = employeeServiceClient;
+        this.enabled = enabled;
+        this.fullReloadInterval = fullReloadInterval;
+        this.hits = Counter.builder("workflow.org-chart.lookups")
+                .description("Manager lookups answered from the org chart cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("workflow.org-chart.lookups")
+                .description("Manager lookups answered from the org chart cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("workflow.org-chart.size", this, cache -> cache.chart.size())
+                .description("Employees held in the org chart cache")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.org-chart.refresh-interval:PT1M}", initialDelayString = "PT5S")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            if (!loaded || System.currentTimeMillis() - lastFullLoadMillis >= fullReloadInterval.toMillis()) {
+                fullLoad();
+            } else {
+                incrementalLoad();
+            }
+        } catch (Exception e) {
+            // Keep serving the last known chart; lookups it cannot answer fall back to employee-service
+            log.warn("⚠️ Org chart refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private void fullLoad() {
+        long start = System.currentTimeMillis();
+        List<OrgChartEntryDTO> entries = employeeServiceClient.getOrgChart(null);
+        Map<UUID, Node> fresh = new ConcurrentHashMap<>(Math.max(16, entries.size() * 2));
+        LocalDateTime newest = apply(fresh, entries, null);
+
+        chart = fresh;
+        watermark = newest;
+        lastFullLoadMillis = System.currentTimeMillis();
+        loaded = true;
+        log.info("🌳 Org chart loaded: {} employees in {}ms", fresh.size(), System.currentTimeMillis() - start);
+    }
+
+    private void incrementalLoad() {
+        // Rows at the watermark itself are fetched again; applying them twice is harmless
+        List<OrgChartEntryDTO> entries = employeeServiceClient.getOrgChart(watermark);
+        if (entries.isEmpty()) return;
+        watermark = apply(chart, entries, watermark);
+        log.debug("🌳 Org chart refreshed: {} changed employees", entries.size());
+    }
+
+    private static LocalDateTime apply(Map<UUID, Node> target, List<OrgChartEntryDTO> entries, LocalDateTime newest) {
+        for (OrgChartEntryDTO entry : entries) {
+            if (entry.getEmployeeId() == null) continue;
+            UUID managerId = entry.getManagerId() != null ? entry.getManagerId() : entry.getEmployeeId();
+            boolean active = !Boolean.FALSE.equals(entry.getActive());
+            target.put(entry.getEmployeeId(), new Node(managerId, entry.getLevel(), active));
+            if (entry.getUpdatedAt() != null && (newest == null || entry.getUpdatedAt().isAfter(newest))) {
+                newest = entry.getUpdatedAt();
+            }
+        }
+        return newest;
+    }
+
+    // === Lookups ===
+
+    /**
+     * The manager {@code levelsAbove} levels above the employee's direct manager (0 = direct manager,
+     * 1 = skip-level), or null when the chain ends before that level. Deactivated managers do not
+     * count as a level. Returns {@link #MISS} when the employee, or someone on the way up, is not in
+     * the cache.
+     */
+    public Lookup managerAbove(UUID employeeId, int levelsAbove) {
+        Map<UUID, Node> nodes = chart;
+        UUID current = employeeId;
+        for (int level = 0; loaded && level <= Math.min(levelsAbove, MAX_CHAIN); level++) {
+            Node node = nodes.get(current);
+            if (node == null) break;
+            UUID manager = activeManagerOf(nodes, current, node);
+            if (manager.equals(current)) {
+                hits.increment();
+                return new Lookup(true, null);
+            }
+            current = manager;
+            if (level == levelsAbove) {
+                hits.increment();
+                return new Lookup(true, current);
+            }
+        }
+        misses.increment();
+        return MISS;
+    }
+
+    // First active manager above the employee; the employee itself when every manager above is deactivated.
+    // A manager missing from the chart is taken as active, as before.
+    private static UUID activeManagerOf(Map<UUID, Node> nodes, UUID employeeId, Node node) {
+        UUID manager = node.managerId();
+        for (int hops = 0; hops < MAX_CHAIN && !manager.equals(employeeId); hops++) {
+            Node managerNode = nodes.get(manager);
+            if (managerNode == null || managerNode.active()) return manager;
+            if (managerNode.managerId().equals(manager)) return employeeId;
+            manager = managerNode.managerId();
+        }
+        return manager;
+    }
+
+    /** The employee's level (grade, e.g. L3), or null when unknown. */
+    public String levelOf(UUID employeeId) {
+        Node node = chart.get(employeeId);
+        return node != null ? node.level() : null;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return chart.size();
+    }
+}
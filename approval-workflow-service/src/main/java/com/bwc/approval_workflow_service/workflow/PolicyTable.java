@@ -0,0 +1,125 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.client.PolicyServiceClient;
+import com.bwc.approval_workflow_service.dto.PolicyTableEntryDTO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local, immutable copy of the active travel policies, compiled into city → category → grade → limits.
+ *
+ * The table is fetched from policymanagement in one call every {@code workflow.policy.refresh-interval}.
+ * When the rows differ from the last fetch, a new snapshot is compiled off to the side and swapped in
+ * atomically, so job workers always read one consistent snapshot without locking or remote calls.
+ * City and grade lookups are case-insensitive. Policies only encode lodging rates, so the table
+ * answers lodging allowances. Travel requests do not carry a lodging amount yet, so no worker
+ * evaluates against it and it is disabled by default ({@code workflow.policy.enabled}).
+ */
+@Component
+@Slf4j
+public class PolicyTable {
+
+    public record Limits(double lodgingCompanyRate, double lodgingOwnRate, int year) {
+    }
+
+    public record CityPolicy(UUID categoryId, String category, Map<String, Limits> byGrade) {
+    }
+
+    private record Snapshot(Map<String, CityPolicy> byCity, List<PolicyTableEntryDTO> source, Instant compiledAt) {
+    }
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), List.of(), null);
+
+    private final PolicyServiceClient policyServiceClient;
+    private final boolean enabled;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(EMPTY);
+
+    public PolicyTable(PolicyServiceClient policyServiceClient,
+                       MeterRegistry meterRegistry,
+                       @Value("${workflow.policy.enabled:false}") boolean enabled) {
+        this.policyServiceClient = policyServiceClient;
+        this.enabled = enabled;
+        Gauge.builder("workflow.policy.table.size", snapshot, s -> s.get().source().size())
+                .description("City/grade entries in the compiled policy table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${workflow.policy.refresh-interval:PT5M}", initialDelayString = "PT5S")
+    public void refresh() {
+        if (!enabled) return;
+        try {
+            List<PolicyTableEntryDTO> rows = policyServiceClient.getActivePolicyTable();
+            if (rows == null || rows.equals(snapshot.get().source())) return;
+
+            Snapshot compiled = compile(List.copyOf(rows));
+            snapshot.set(compiled);
+            log.info("📜 Policy table compiled: {} cities, {} entries", compiled.byCity().size(), rows.size());
+        } catch (Exception e) {
+            // Keep evaluating against the last compiled snapshot
+            log.warn("⚠️ Policy table refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private static Snapshot compile(List<PolicyTableEntryDTO> rows) {
+        Map<String, UUID> categoryOf = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, String> categoryName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Map<String, Limits>> grades = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (PolicyTableEntryDTO row : rows) {
+            if (row.getCity() == null || row.getGrade() == null || row.getLodgingCompanyRate() == null) continue;
+
+            // A city name in two categories keeps the first one seen
+            UUID category = categoryOf.putIfAbsent(row.getCity(), row.getCategoryId());
+            if (category != null && !category.equals(row.getCategoryId())) continue;
+            categoryName.putIfAbsent(row.getCity(), row.getCategoryName());
+
+            Limits limits = new Limits(row.getLodgingCompanyRate(),
+                    row.getLodgingOwnRate() != null ? row.getLodgingOwnRate() : 0,
+                    row.getYear() != null ? row.getYear() : 0);
+            // Several active years for one category: the latest wins
+            grades.computeIfAbsent(row.getCity(), c -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                    .merge(row.getGrade(), limits, (a, b) -> b.year() > a.year() ? b : a);
+        }
+
+        Map<String, CityPolicy> byCity = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        grades.forEach((city, byGrade) -> byCity.put(city, new CityPolicy(
+                categoryOf.get(city), categoryName.get(city), Collections.unmodifiableMap(byGrade))));
+        return new Snapshot(Collections.unmodifiableMap(byCity), rows, Instant.now());
+    }
+
+    // === Lookups ===
+
+    public Limits limits(String city, String grade) {
+        if (city == null || grade == null) return null;
+        CityPolicy policy = snapshot.get().byCity().get(city);
+        return policy != null ? policy.byGrade().get(grade) : null;
+    }
+
+    /** Lodging allowance at the company rate for the stay, or null when no policy covers the city and grade. */
+    public Double ceiling(String city, String grade, long nights) {
+        Limits limits = limits(city, grade);
+        return limits != null && nights > 0 ? limits.lodgingCompanyRate() * nights : null;
+    }
+
+    public boolean isLoaded() {
+        return snapshot.get() != EMPTY;
+    }
+
+    public Instant compiledAt() {
+        return snapshot.get().compiledAt();
+    }
+}
@@ -0,0 +1,110 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reads process instance variables from Tasklist's variable search.
+ * Kept apart from EnhancedUserTaskService so the enrichment cache can use it as its loader.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProcessVariableClient {
+
+    private static final Duration FETCH_TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient tasklistClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // Max concurrent /v1/variables/search requests for one batch
+    @Value("${workflow.variables.batch-parallelism:8}")
+    private int batchParallelism;
+
+    @Value("${workflow.variables.batch-timeout:15s}")
+    private Duration batchTimeout;
+
+    public Map<String, Object> fetchProcessVariables(String processInstanceId) {
+        Map<String, Object> variables = fetchProcessVariablesReactive(processInstanceId).block(FETCH_TIMEOUT);
+        return variables != null ? variables : new HashMap<>();
+    }
+
+    /**
+     * Resolves the variables of many process instances in one call.
+     *
+     * The variable search only filters on a single processInstanceKey, so keys are
+     * de-duplicated and fetched concurrently with at most {@code batchParallelism}
+     * requests in flight. Instances whose lookup fails map to an empty variable map.
+     */
+    public Map<String, Map<String, Object>> fetchProcessVariablesBatch(Collection<String> processInstanceIds) {
+        if (processInstanceIds.isEmpty()) return new HashMap<>();
+
+        Map<String, Map<String, Object>> result = Flux.fromIterable(new LinkedHashSet<>(processInstanceIds))
+                .flatMap(id -> fetchProcessVariablesReactive(id).map(vars -> Map.entry(id, vars)), batchParallelism)
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block(batchTimeout);
+
+        log.debug("✅ Batch fetched variables for {} process instances", result != null ? result.size() : 0);
+        return result != null ? result : new HashMap<>();
+    }
+
+    public Mono<Map<String, Object>> fetchProcessVariablesReactive(String processInstanceId) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("processInstanceKey", processInstanceId);
+        requestBody.put("pageSize", 100);
+
+        return tasklistClient.post()
+                .uri("/v1/variables/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(FETCH_TIMEOUT)
+                .map(resp -> toVariables(processInstanceId, resp))
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch variables for process {}: {}", processInstanceId, e.getMessage());
+                    return Mono.just(new HashMap<>());
+                })
+                .defaultIfEmpty(new HashMap<>());
+    }
+
+    private Map<String, Object> toVariables(String processInstanceId, JsonNode resp) {
+        Map<String, Object> cleanedVariables = new HashMap<>();
+        if (resp == null || !resp.has("items")) {
+            log.warn("⚠️ No variables found for process {}", processInstanceId);
+            return cleanedVariables;
+        }
+
+        List<Map<String, Object>> items = objectMapper.convertValue(resp.get("items"), new TypeReference<>() {});
+        for (Map<String, Object> item : items) {
+            String name = (String) item.get("name");
+            Object value = item.get("value");
+            value = TaskMapper.cleanVariableValue(value);
+            if (name != null && !name.isBlank()) {
+                cleanedVariables.put(name, value);
+            }
+        }
+
+        log.debug("✅ Fetched {} variables for process {}", cleanedVariables.size(), processInstanceId);
+        return cleanedVariables;
+    }
+}
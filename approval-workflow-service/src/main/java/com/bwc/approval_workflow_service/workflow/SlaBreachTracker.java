@@ -0,0 +1,166 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.SlaBreachEvent;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the SLA deadline of every open user task and fires a {@link SlaBreachEvent} when one passes.
+ *
+ * A deadline is registered when the projection reports a task as created: the task's Tasklist
+ * due date, or else the {@code slaDeadline} variable set by {@code initialize-travel-process}.
+ * Deadlines sit in a priority queue ordered by time, so each tick only looks at the head;
+ * completed and canceled tasks are dropped lazily when they reach it. Tasks that breached and
+ * are still open form the breach list, which is kept up to date rather than recomputed on read.
+ *
+ * Metrics: {@code workflow.sla.tracked}, {@code workflow.sla.open-breaches}, {@code workflow.sla.breaches}.
+ */
+@Component
+@Slf4j
+public class SlaBreachTracker {
+
+    public record Breach(TaskDTO task, String role, LocalDateTime deadline, LocalDateTime detectedAt) {
+    }
+
+    private record Deadline(String taskId, LocalDateTime at) {
+    }
+
+    private record Tracked(TaskDTO task, String role, LocalDateTime deadline, boolean initialLoad) {
+    }
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparing(Deadline::at));
+    // Open tasks waiting for their deadline; queue, tracked and breaches change together under the queue's lock
+    private final Map<String, Tracked> tracked = new ConcurrentHashMap<>();
+    private final Map<String, Breach> breaches = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> breachesByRole = new ConcurrentHashMap<>();
+    private final Counter fired;
+
+    public SlaBreachTracker(ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        Gauge.builder("workflow.sla.tracked", tracked, Map::size)
+                .description("Open user tasks waiting for their SLA deadline")
+                .register(meterRegistry);
+        Gauge.builder("workflow.sla.open-breaches", breaches, Map::size)
+                .description("Open user tasks past their SLA deadline")
+                .register(meterRegistry);
+        this.fired = Counter.builder("workflow.sla.breaches")
+                .description("SLA breaches detected")
+                .register(meterRegistry);
+    }
+
+    // === Registration ===
+
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        TaskDTO task = event.getTask();
+        if (task == null || task.getTaskId() == null) return;
+
+        switch (event.getType()) {
+            case CREATED -> register(task, event.isInitialLoad());
+            // Keep the latest view of the task (assignee) for the breach event and list
+            case CLAIMED -> {
+                tracked.computeIfPresent(task.getTaskId(), (id, t) -> new Tracked(task, t.role(), t.deadline(), t.initialLoad()));
+                breaches.computeIfPresent(task.getTaskId(), (id, b) -> new Breach(task, b.role(), b.deadline(), b.detectedAt()));
+            }
+            case COMPLETED, CANCELED -> resolve(task.getTaskId());
+        }
+    }
+
+    private void register(TaskDTO task, boolean initialLoad) {
+        LocalDateTime deadline = deadlineOf(task);
+        String role = WorkflowRollups.roleOf(task.getCandidateGroup());
+        if (deadline == null || role == null) return;
+
+        synchronized (queue) {
+            if (tracked.putIfAbsent(task.getTaskId(), new Tracked(task, role, deadline, initialLoad)) == null) {
+                queue.add(new Deadline(task.getTaskId(), deadline));
+            }
+        }
+    }
+
+    private void resolve(String taskId) {
+        synchronized (queue) {
+            // The queue entry is skipped when it reaches the head
+            tracked.remove(taskId);
+            Breach breach = breaches.remove(taskId);
+            if (breach != null) {
+                breachesByRole.get(breach.role()).decrementAndGet();
+            }
+        }
+    }
+
+    static LocalDateTime deadlineOf(TaskDTO task) {
+        if (task.getDueDate() != null) return task.getDueDate();
+        Object slaDeadline = task.getVariables() != null ? task.getVariables().get("slaDeadline") : null;
+        return slaDeadline != null ? TaskMapper.parseDateTimeSafe(TaskMapper.cleanVariableValue(slaDeadline).toString()) : null;
+    }
+
+    // === Firing ===
+
+    @Scheduled(fixedDelayString = "${workflow.sla.tick:PT5S}", initialDelayString = "PT10S")
+    public void fireDue() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SlaBreachEvent> due = new ArrayList<>();
+        synchronized (queue) {
+            while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+                Tracked t = tracked.remove(queue.poll().taskId());
+                if (t == null) continue;
+                breaches.put(t.task().getTaskId(), new Breach(t.task(), t.role(), t.deadline(), now));
+                breachesByRole.computeIfAbsent(t.role(), r -> new AtomicInteger()).incrementAndGet();
+                due.add(SlaBreachEvent.builder()
+                        .task(t.task())
+                        .role(t.role())
+                        .deadline(t.deadline())
+                        .detectedAt(now)
+                        .initialLoad(t.initialLoad())
+                        .build());
+            }
+        }
+
+        // Published outside the lock so listeners can take their time
+        for (SlaBreachEvent event : due) {
+            fired.increment();
+            log.warn("⏰ SLA breached: task {} ({}) for {} was due {}",
+                    event.getTask().getTaskId(), event.getTask().getTaskName(), event.getRole(), event.getDeadline());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    // === Reads ===
+
+    // Open tasks past their deadline; a live view, not a copy
+    public Collection<Breach> breaches() {
+        return Collections.unmodifiableCollection(breaches.values());
+    }
+
+    public int breachCount(String role) {
+        AtomicInteger count = breachesByRole.get(role);
+        return count != null ? count.get() : 0;
+    }
+
+    public boolean isBreached(String taskId) {
+        return breaches.containsKey(taskId);
+    }
+}
@@ -0,0 +1,170 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.bwc.approval_workflow_service.dto.EmployeeProxyDTO;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded caches for the data used to enrich inbox tasks: employee profiles and
+ * process instance variables.
+ *
+ * Entries are evicted by size and age, and refreshed in the background before they
+ * expire so hot entries never make a request wait on a reload. Refreshes run on the
+ * bounded {@link EnrichmentExecutor} rather than the common pool. Hit/miss/eviction
+ * counters are published to the meter registry as {@code cache.*} metrics.
+ */
+@Component
+@Slf4j
+public class TaskEnrichmentCache {
+
+    public static final String EMPLOYEES = "tasklist.employees";
+    public static final String VARIABLES = "tasklist.variables";
+
+    private final LoadingCache<String, EmployeeProxyDTO> employees;
+    private final LoadingCache<String, Map<String, Object>> variables;
+
+    public TaskEnrichmentCache(EmployeeServiceClient employeeServiceClient,
+                               ProcessVariableClient processVariableClient,
+                               EnrichmentExecutor enrichmentExecutor,
+                               MeterRegistry meterRegistry,
+                               @Value("${workflow.cache.employees.maximum-size:5000}") long maxEmployees,
+                               @Value("${workflow.cache.variables.maximum-size:10000}") long maxVariables,
+                               @Value("${workflow.cache.employees.batch-size:200}") int employeeBatchSize,
+                               @Value("${workflow.cache.expire-after-write:5m}") Duration expireAfterWrite,
+                               @Value("${workflow.cache.refresh-after-write:4m}") Duration refreshAfterWrite) {
+
+        this.employees = Caffeine.newBuilder()
+                .maximumSize(maxEmployees)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .executor(enrichmentExecutor.executor())
+                .recordStats()
+                .build(new CacheLoader<String, EmployeeProxyDTO>() {
+                    @Override
+                    public EmployeeProxyDTO load(String employeeId) {
+                        EmployeeProxyDTO employee = employeeServiceClient.getEmployee(UUID.fromString(employeeId));
+                        log.debug("✅ Cached employee profile: {}", employeeId);
+                        return employee;
+                    }
+
+                    // Used by getAll: misses are resolved through /proxy/batch, one call per chunk
+                    @Override
+                    public Map<String, EmployeeProxyDTO> loadAll(Set<? extends String> employeeIds) {
+                        List<UUID> ids = employeeIds.stream().map(UUID::fromString).toList();
+                        Map<String, EmployeeProxyDTO> loaded = new HashMap<>();
+                        for (int from = 0; from < ids.size(); from += employeeBatchSize) {
+                            List<UUID> chunk = ids.subList(from, Math.min(from + employeeBatchSize, ids.size()));
+                            employeeServiceClient.getEmployees(chunk).stream()
+                                    .filter(e -> e.getEmployeeId() != null)
+                                    .forEach(e -> loaded.put(e.getEmployeeId().toString(), e));
+                        }
+                        log.debug("✅ Cached {} of {} employee profiles in batch", loaded.size(), ids.size());
+                        return loaded;
+                    }
+                });
+
+        this.variables = Caffeine.newBuilder()
+                .maximumSize(maxVariables)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .executor(enrichmentExecutor.executor())
+                .recordStats()
+                .build(new CacheLoader<String, Map<String, Object>>() {
+                    @Override
+                    public Map<String, Object> load(String processInstanceId) {
+                        return processVariableClient.fetchProcessVariables(processInstanceId);
+                    }
+
+                    // Used by getAll: only the keys missing from the cache reach the batch loader
+                    @Override
+                    public Map<String, Map<String, Object>> loadAll(Set<? extends String> processInstanceIds) {
+                        return processVariableClient.fetchProcessVariablesBatch(Set.copyOf(processInstanceIds));
+                    }
+                });
+
+        CaffeineCacheMetrics.monitor(meterRegistry, employees, EMPLOYEES);
+        CaffeineCacheMetrics.monitor(meterRegistry, variables, VARIABLES);
+    }
+
+    // Returns null when the employee cannot be loaded; failures are not cached
+    public EmployeeProxyDTO getEmployee(String employeeId) {
+        try {
+            return employees.get(employeeId);
+        } catch (Exception e) {
+            log.warn("❌ Failed to fetch employee {}: {}", employeeId, e.getMessage());
+            return null;
+        }
+    }
+
+    // Cached profiles are served directly; misses are loaded through the batch endpoint.
+    // Throws if the batch call fails so callers can fall back to single lookups.
+    public Map<String, EmployeeProxyDTO> getEmployees(Collection<String> employeeIds) {
+        return employees.getAll(employeeIds);
+    }
+
+    public Map<String, Object> getVariables(String processInstanceId) {
+        return variables.get(processInstanceId);
+    }
+
+    // Cached entries are served directly; all misses are resolved by one batch load
+    public Map<String, Map<String, Object>> getVariables(Collection<String> processInstanceIds) {
+        return variables.getAll(processInstanceIds);
+    }
+
+    public Map<String, Map<String, Object>> describe() {
+        Map<String, Map<String, Object>> caches = new LinkedHashMap<>();
+        caches.put(EMPLOYEES, describe(employees));
+        caches.put(VARIABLES, describe(variables));
+        return caches;
+    }
+
+    public boolean clear(String name) {
+        switch (name) {
+            case EMPLOYEES -> employees.invalidateAll();
+            case VARIABLES -> variables.invalidateAll();
+            default -> {
+                return false;
+            }
+        }
+        log.info("🧹 Cleared cache {}", name);
+        return true;
+    }
+
+    public void clearAll() {
+        employees.invalidateAll();
+        variables.invalidateAll();
+        log.info("🧹 Cleared all task enrichment caches");
+    }
+
+    private static Map<String, Object> describe(LoadingCache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("size", cache.estimatedSize());
+        info.put("hitCount", stats.hitCount());
+        info.put("missCount", stats.missCount());
+        info.put("hitRate", stats.hitRate());
+        info.put("evictionCount", stats.evictionCount());
+        info.put("loadFailureCount", stats.loadFailureCount());
+        info.put("averageLoadPenaltyMs", stats.averageLoadPenalty() / 1_000_000.0);
+        return info;
+    }
+}
@@ -0,0 +1,189 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maps Tasklist task payloads onto {@link TaskDTO}.
+ * Shared by the map-based path (task details) and the streaming {@link TasklistTaskDecoder}.
+ */
+@Slf4j
+public final class TaskMapper {
+
+    private static final Set<String> KNOWN_STATES = Set.of("CREATED", "COMPLETED", "CANCELED");
+
+    private TaskMapper() {
+    }
+
+ // ✅ FIXED: Correct state mapping with proper validation
+    @SuppressWarnings("unchecked")
+    public static TaskDTO mapToTaskDTO(Map<String, Object> data) {
+        TaskDTO dto = new TaskDTO();
+
+        // Basic task information
+        dto.setTaskId(firstNonNullString(data.get("id"), data.get("taskId")));
+        dto.setTaskName((String) data.get("name"));
+        dto.setProcessInstanceId(firstNonNullString(data.get("processInstanceId"), data.get("processInstanceKey")));
+        dto.setProcessDefinitionId(firstNonNullString(data.get("processDefinitionId"), data.get("processDefinitionKey")));
+
+        dto.setCreatedDate(parseDateTimeSafe(firstNonNullString(data.get("creationDate"), data.get("createdDate"))));
+        dto.setDueDate(parseDateTimeSafe((String) data.get("dueDate")));
+        dto.setCompletionDate(parseDateTimeSafe((String) data.get("completionDate")));
+
+        dto.setAssignee((String) data.get("assignee"));
+
+        // ✅ FIXED: Extract candidate group from response
+        if (data.get("candidateGroups") instanceof List<?> groups && !groups.isEmpty()) {
+            dto.setCandidateGroup((String) groups.get(0)); // Take first candidate group
+        }
+
+        // ✅ Variables are extracted once and reused for the outcome
+        Map<String, Object> taskVariables = extractVariablesFromTask(data);
+        dto.setVariables(taskVariables);
+
+        applyState(dto, (String) data.get("taskState"));
+
+        dto.setOutcome(outcome(taskVariables));
+        dto.setCurrentStep((String) data.get("name"));
+
+        return dto;
+    }
+
+    // ✅ PROPER STATE MAPPING - status and processState always carry the same normalized value
+    static void applyState(TaskDTO dto, String taskState) {
+        String normalizedState = taskState == null ? "UNKNOWN" : taskState.toUpperCase(Locale.ROOT);
+
+        if (!KNOWN_STATES.contains(normalizedState)) {
+            log.warn("⚠️ Unexpected task state '{}' for task {}, defaulting to CREATED", normalizedState, dto.getTaskId());
+            normalizedState = "CREATED";
+        }
+
+        dto.setStatus(normalizedState);
+        dto.setProcessState(normalizedState);
+
+        if ("COMPLETED".equals(normalizedState)) {
+            log.debug("✅ Found COMPLETED task {} with completion date: {}", dto.getTaskId(), dto.getCompletionDate());
+        }
+    }
+
+    // Helper method for flexible field mapping
+    public static String firstNonNullString(Object... objs) {
+        for (Object o : objs) {
+            if (o != null) {
+                String str = o.toString();
+                if (!str.isBlank()) {
+                    return str;
+                }
+            }
+        }
+        return null;
+    }
+
+    public static LocalDateTime parseDateTimeSafe(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            String clean = value.strip();
+            if (clean.startsWith("\"") && clean.endsWith("\"")) {
+                clean = clean.substring(1, clean.length() - 1);
+            }
+
+            // Normalize offsets without colon: +0000 -> +00:00
+            String normalized = clean.replaceAll("([+-]\\d{2})(\\d{2})$", "$1:$2");
+
+            // Try parse as OffsetDateTime (preferred) with timezone conversion
+            try {
+                OffsetDateTime odt = OffsetDateTime.parse(normalized);
+                return odt.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {}
+
+            // Fallback: try ISO_LOCAL
+            try {
+                return LocalDateTime.parse(clean, DateTimeFormatter.ISO_DATE_TIME);
+            } catch (DateTimeParseException ignored) {}
+
+            log.warn("Failed to parse date '{}' with any format", clean);
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to parse date '{}': {}", value, e.getMessage());
+            return null;
+        }
+    }
+
+    // ✅ FIXED: Improved variable extraction
+    public static Map<String, Object> extractVariablesFromTask(Map<String, Object> data) {
+        Map<String, Object> vars = new LinkedHashMap<>();
+        try {
+            // ✅ FIXED: Extract from "variables" array in Tasklist API response
+            if (data.containsKey("variables") && data.get("variables") != null) {
+                Object raw = data.get("variables");
+                vars.putAll(extractVariablesFromRaw(raw));
+            }
+
+        } catch (Exception e) {
+            log.warn("Failed to extract vars from task: {}", e.getMessage());
+        }
+        return vars;
+    }
+
+    public static Map<String, Object> extractVariablesFromRaw(Object raw) {
+        Map<String, Object> vars = new LinkedHashMap<>();
+        try {
+            if (raw instanceof List<?> list) {
+                for (Object obj : list) {
+                    if (obj instanceof Map<?, ?> map) {
+                        String name = Objects.toString(map.get("name"), "");
+                        Object value = map.get("value");
+                        value = cleanVariableValue(value);
+                        if (!name.isEmpty()) vars.put(name, value);
+                    }
+                }
+            } else if (raw instanceof Map<?, ?> map) {
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    Object value = entry.getValue();
+                    value = cleanVariableValue(value);
+                    vars.put(entry.getKey().toString(), value);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to extract from raw data: {}", e.getMessage());
+        }
+        return vars;
+    }
+
+    public static Object cleanVariableValue(Object value) {
+        if (value instanceof String stringValue) {
+            // Remove surrounding quotes if present
+            if (stringValue.startsWith("\"") && stringValue.endsWith("\"")) {
+                return stringValue.substring(1, stringValue.length() - 1);
+            }
+            // Handle JSON-encoded values
+            if (stringValue.startsWith("\"{") && stringValue.endsWith("}\"")) {
+                return stringValue.substring(1, stringValue.length() - 1);
+            }
+        }
+        return value;
+    }
+
+    public static String outcome(Map<String, Object> vars) {
+        if (vars.containsKey("managerApproved"))
+            return Boolean.TRUE.equals(vars.get("managerApproved")) ? "APPROVED" : "REJECTED";
+        if (vars.containsKey("financeApproved"))
+            return Boolean.TRUE.equals(vars.get("financeApproved")) ? "APPROVED" : "REJECTED";
+        if (vars.containsKey("hrCompliant"))
+            return Boolean.TRUE.equals(vars.get("hrCompliant")) ? "COMPLIANT" : "NON_COMPLIANT";
+        return "UNKNOWN";
+    }
+}
@@ -0,0 +1,272 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local, indexed read model of Tasklist user tasks.
+ *
+ * Tasks are indexed by assignee, candidate group, state and requesting employee so inbox
+ * reads are map lookups instead of Tasklist searches. The projection is fed by task
+ * completions made through this service and by periodic reconciliation against Tasklist
+ * ({@link TaskProjectionReconciler}); every observed state change is published as a
+ * {@link TaskLifecycleEvent}.
+ *
+ * Writes are serialised on this instance; reads are lock-free.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskProjection {
+
+    private static final String CREATED = "CREATED";
+    private static final String COMPLETED = "COMPLETED";
+    private static final String CANCELED = "CANCELED";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Completed tasks kept for inbox history; oldest completions are dropped first
+    @Value("${workflow.projection.completed-retention:5000}")
+    private int completedRetention;
+
+    private final Map<String, TaskDTO> tasks = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byAssignee = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byCandidateGroup = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byState = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byEmployee = new ConcurrentHashMap<>();
+    private final Deque<String> completionOrder = new ArrayDeque<>();
+    private final AtomicBoolean refreshRequested = new AtomicBoolean();
+    private volatile LocalDateTime lastReconciled;
+
+    // === Reads ===
+
+    public boolean isWarm() {
+        return lastReconciled != null;
+    }
+
+    public LocalDateTime getLastReconciled() {
+        return lastReconciled;
+    }
+
+    public int getCompletedRetention() {
+        return completedRetention;
+    }
+
+    public int size() {
+        return tasks.size();
+    }
+
+    public TaskDTO get(String taskId) {
+        return tasks.get(taskId);
+    }
+
+    // Tasks in the given state that are assigned to the assignee or offered to the candidate group
+    public List<TaskDTO> find(String assignee, String candidateGroup, String state) {
+        Set<String> inState = byState.getOrDefault(state, Set.of());
+        Set<String> ids = new LinkedHashSet<>();
+        if (assignee != null) ids.addAll(intersect(byAssignee.get(assignee), inState));
+        if (candidateGroup != null) ids.addAll(intersect(byCandidateGroup.get(candidateGroup), inState));
+        return resolve(ids);
+    }
+
+    // Tasks raised by the given employee (the process's employeeId variable)
+    public List<TaskDTO> findByEmployee(String employeeId, String state) {
+        return resolve(intersect(byEmployee.get(employeeId), byState.getOrDefault(state, Set.of())));
+    }
+
+    public List<TaskDTO> findByState(String state) {
+        return resolve(byState.getOrDefault(state, Set.of()));
+    }
+
+    // === Writes ===
+
+    public synchronized void apply(TaskDTO observed) {
+        applyInternal(observed);
+    }
+
+    // Called after this service completed a task through Tasklist
+    public synchronized void markCompleted(String taskId, Map<String, Object> completionVariables) {
+        TaskDTO current = tasks.get(taskId);
+        if (current == null || COMPLETED.equals(current.getStatus())) return;
+
+        Map<String, Object> variables = new HashMap<>();
+        if (current.getVariables() != null) variables.putAll(current.getVariables());
+        variables.putAll(completionVariables);
+
+        applyInternal(current.toBuilder()
+                .status(COMPLETED)
+                .processState(COMPLETED)
+                .completionDate(LocalDateTime.now())
+                .variables(variables)
+                .build());
+    }
+
+    /**
+     * Brings the projection in line with a Tasklist snapshot.
+     *
+     * @param open          every CREATED task currently in Tasklist
+     * @param completed     recently completed tasks, newest first
+     * @param openComplete  false when the open walk was truncated; vanished tasks are then left alone
+     */
+    public synchronized void reconcile(List<TaskDTO> open, List<TaskDTO> completed, boolean openComplete) {
+        Set<String> seen = new HashSet<>();
+        // Only the retained newest completions, applied oldest first so the eviction order matches
+        // completion order; a completion that would be evicted at once is never re-added
+        List<TaskDTO> retained = completed.subList(0, Math.min(completed.size(), completedRetention));
+        for (int i = retained.size() - 1; i >= 0; i--) {
+            applyInternal(retained.get(i));
+        }
+        for (TaskDTO task : completed) {
+            seen.add(task.getTaskId());
+        }
+        for (TaskDTO task : open) {
+            applyInternal(task);
+            seen.add(task.getTaskId());
+        }
+
+        if (openComplete) {
+            // Pending tasks that left Tasklist without showing up as completed were canceled
+            for (String taskId : List.copyOf(byState.getOrDefault(CREATED, Set.of()))) {
+                if (seen.contains(taskId)) continue;
+                TaskDTO task = tasks.get(taskId);
+                applyInternal(task.toBuilder().status(CANCELED).processState(CANCELED).build());
+                remove(taskId);
+            }
+        }
+
+        lastReconciled = LocalDateTime.now();
+    }
+
+    public void requestRefresh() {
+        refreshRequested.set(true);
+    }
+
+    public boolean consumeRefreshRequest() {
+        return refreshRequested.getAndSet(false);
+    }
+
+    // === Internals ===
+
+    private void applyInternal(TaskDTO next) {
+        if (next == null || next.getTaskId() == null) return;
+
+        TaskDTO previous = tasks.get(next.getTaskId());
+        if (previous != null && COMPLETED.equals(previous.getStatus()) && !COMPLETED.equals(next.getStatus())) {
+            return; // completion is terminal; ignore stale snapshots
+        }
+
+        if (previous != null) unindex(previous);
+        tasks.put(next.getTaskId(), next);
+        index(next);
+
+        TaskLifecycleEvent.Type type = transition(previous, next);
+        if (type == TaskLifecycleEvent.Type.COMPLETED) {
+            completionOrder.addLast(next.getTaskId());
+            trimCompleted();
+        }
+        if (type != null) {
+            eventPublisher.publishEvent(TaskLifecycleEvent.builder()
+                    .type(type)
+                    .task(next)
+                    .previousAssignee(previous != null ? previous.getAssignee() : null)
+                    .previousStatus(previous != null ? previous.getStatus() : null)
+                    .occurredAt(LocalDateTime.now())
+                    .initialLoad(!isWarm())
+                    .build());
+        }
+    }
+
+    private static TaskLifecycleEvent.Type transition(TaskDTO previous, TaskDTO next) {
+        String state = next.getStatus();
+        if (CANCELED.equals(state)) return TaskLifecycleEvent.Type.CANCELED;
+        if (previous == null) {
+            return COMPLETED.equals(state) ? TaskLifecycleEvent.Type.COMPLETED : TaskLifecycleEvent.Type.CREATED;
+        }
+        if (COMPLETED.equals(state) && !COMPLETED.equals(previous.getStatus())) {
+            return TaskLifecycleEvent.Type.COMPLETED;
+        }
+        if (CREATED.equals(state) && !Objects.equals(previous.getAssignee(), next.getAssignee())) {
+            return TaskLifecycleEvent.Type.CLAIMED;
+        }
+        return null;
+    }
+
+    private void trimCompleted() {
+        while (completionOrder.size() > completedRetention) {
+            remove(completionOrder.pollFirst());
+        }
+    }
+
+    private void remove(String taskId) {
+        TaskDTO removed = tasks.remove(taskId);
+        if (removed != null) unindex(removed);
+    }
+
+    private void index(TaskDTO task) {
+        String id = task.getTaskId();
+        add(byState, task.getStatus(), id);
+        add(byAssignee, task.getAssignee(), id);
+        add(byCandidateGroup, task.getCandidateGroup(), id);
+        add(byEmployee, employeeIdOf(task), id);
+    }
+
+    private void unindex(TaskDTO task) {
+        String id = task.getTaskId();
+        drop(byState, task.getStatus(), id);
+        drop(byAssignee, task.getAssignee(), id);
+        drop(byCandidateGroup, task.getCandidateGroup(), id);
+        drop(byEmployee, employeeIdOf(task), id);
+    }
+
+    static String employeeIdOf(TaskDTO task) {
+        if (task.getVariables() == null) return null;
+        Object employeeId = task.getVariables().get("employeeId");
+        return employeeId != null ? TaskMapper.cleanVariableValue(employeeId).toString() : null;
+    }
+
+    private static void add(Map<String, Set<String>> index, String key, String taskId) {
+        if (key == null) return;
+        index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(taskId);
+    }
+
+    private static void drop(Map<String, Set<String>> index, String key, String taskId) {
+        if (key == null) return;
+        index.computeIfPresent(key, (k, ids) -> {
+            ids.remove(taskId);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private static Collection<String> intersect(Set<String> a, Set<String> b) {
+        if (a == null || b == null || a.isEmpty() || b.isEmpty()) return Set.of();
+        Set<String> smaller = a.size() <= b.size() ? a : b;
+        Set<String> larger = smaller == a ? b : a;
+        return smaller.stream().filter(larger::contains).collect(Collectors.toList());
+    }
+
+    private List<TaskDTO> resolve(Collection<String> ids) {
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,104 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps {@link TaskProjection} in line with Tasklist.
+ *
+ * Runs a full reconciliation every {@code workflow.projection.reconcile-interval}. When a workflow
+ * worker signals that a user task is about to be created, only the open tasks created since the
+ * last full reconciliation are fetched and applied on the next tick. A failed reconciliation is
+ * retried after {@code workflow.projection.retry-backoff}, doubling on each further failure up to the
+ * reconcile interval, also while the projection is still cold.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskProjectionReconciler {
+
+    private final EnhancedUserTaskService userTaskService;
+    private final TaskProjection projection;
+
+    @Value("${workflow.projection.enabled:true}")
+    private boolean enabled;
+
+    @Value("${workflow.projection.reconcile-interval:PT30S}")
+    private Duration reconcileInterval;
+
+    // Upper bound on tasks loaded per state; should exceed the number of open tasks
+    @Value("${workflow.projection.max-tasks:10000}")
+    private int maxTasks;
+
+    // First retry delay after a failed reconciliation
+    @Value("${workflow.projection.retry-backoff:PT2S}")
+    private Duration retryBackoff;
+
+    // Tolerated difference between our clock and Tasklist's creation times
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(10);
+
+    private volatile long nextReconcileMillis;
+    private volatile int consecutiveFailures;
+
+    @Scheduled(fixedDelayString = "${workflow.projection.tick:PT2S}", initialDelayString = "PT5S")
+    public void tick() {
+        if (!enabled) return;
+        boolean requested = projection.consumeRefreshRequest();
+        if (System.currentTimeMillis() >= nextReconcileMillis) {
+            reconcile();
+        } else if (requested && projection.isWarm()) {
+            refreshRecent();
+        }
+    }
+
+    // Applies open tasks created since the last full reconciliation; re-applying known ones is a no-op
+    public void refreshRecent() {
+        long start = System.currentTimeMillis();
+        try {
+            LocalDateTime since = projection.getLastReconciled().minus(CLOCK_SKEW);
+            List<TaskDTO> recent = userTaskService.loadTasksCreatedSince(since, maxTasks);
+            recent.forEach(projection::apply);
+
+            log.debug("🔄 Task projection refreshed: {} open tasks created since {} in {}ms",
+                    recent.size(), since, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("⚠️ Task projection refresh failed: {}", e.getMessage());
+        }
+    }
+
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            List<TaskDTO> open = userTaskService.loadTasksForProjection("CREATED", maxTasks);
+            // Only as many completions as the projection retains, so trimmed tasks are not re-added
+            List<TaskDTO> completed = userTaskService.loadTasksForProjection("COMPLETED", projection.getCompletedRetention());
+            projection.reconcile(open, completed, open.size() < maxTasks);
+
+            log.info("🔄 Task projection reconciled: {} open, {} completed, {} held in {}ms",
+                    open.size(), completed.size(), projection.size(), System.currentTimeMillis() - start);
+            consecutiveFailures = 0;
+            nextReconcileMillis = System.currentTimeMillis() + reconcileInterval.toMillis();
+        } catch (Exception e) {
+            Duration backoff = backoff(++consecutiveFailures);
+            nextReconcileMillis = System.currentTimeMillis() + backoff.toMillis();
+            log.warn("⚠️ Task projection reconciliation failed ({} in a row), retrying in {}s: {}",
+                    consecutiveFailures, backoff.toSeconds(), e.getMessage());
+        }
+    }
+
+    // retry-backoff doubled per further failure, never longer than the reconcile interval
+    private Duration backoff(int failures) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(failures - 1, 20));
+        return backoff.compareTo(reconcileInterval) < 0 ? backoff : reconcileInterval;
+    }
+}
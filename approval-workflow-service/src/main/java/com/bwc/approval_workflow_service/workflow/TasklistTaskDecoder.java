@@ -0,0 +1,217 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decodes a /v1/tasks/search response straight into {@link TaskDTO}s in a single pass over the token stream,
+ * without building a JsonNode tree or an intermediate Map per task.
+ * Field semantics match {@link TaskMapper#mapToTaskDTO(Map)}.
+ */
+@Slf4j
+public final class TasklistTaskDecoder {
+
+    private final ObjectMapper objectMapper;
+
+    public TasklistTaskDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Page decode(byte[] body) {
+        if (body == null || body.length == 0) {
+            log.warn("⚠️ Task search returned null or empty response");
+            return Page.EMPTY;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            return decode(parser);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to decode Tasklist response: " + e.getMessage(), e);
+        }
+    }
+
+    private Page decode(JsonParser parser) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_ARRAY) {
+            return readItems(parser);
+        }
+        if (first == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    return readItems(parser);
+                }
+                parser.skipChildren();
+            }
+        }
+        log.warn("⚠️ Tasklist returned unexpected JSON (first token {})", first);
+        return Page.EMPTY;
+    }
+
+    private Page readItems(JsonParser parser) throws IOException {
+        List<TaskDTO> tasks = new ArrayList<>();
+        List<Object> lastSortValues = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            TaskItem item = readItem(parser);
+            tasks.add(item.dto);
+            lastSortValues = item.sortValues;
+        }
+        log.debug("✅ Tasklist returned {} items", tasks.size());
+        return new Page(tasks, lastSortValues);
+    }
+
+    private TaskItem readItem(JsonParser parser) throws IOException {
+        TaskDTO dto = new TaskDTO();
+        Map<String, Object> variables = new LinkedHashMap<>();
+        List<Object> sortValues = null;
+        String taskId = null, taskIdAlt = null;
+        String instanceId = null, instanceKey = null;
+        String definitionId = null, definitionKey = null;
+        String creationDate = null, createdDate = null;
+        String taskState = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "id" -> taskId = scalarText(parser, value);
+                case "taskId" -> taskIdAlt = scalarText(parser, value);
+                case "name" -> {
+                    String name = scalarText(parser, value);
+                    dto.setTaskName(name);
+                    dto.setCurrentStep(name);
+                }
+                case "processInstanceId" -> instanceId = scalarText(parser, value);
+                case "processInstanceKey" -> instanceKey = scalarText(parser, value);
+                case "processDefinitionId" -> definitionId = scalarText(parser, value);
+                case "processDefinitionKey" -> definitionKey = scalarText(parser, value);
+                case "creationDate" -> creationDate = scalarText(parser, value);
+                case "createdDate" -> createdDate = scalarText(parser, value);
+                case "dueDate" -> dto.setDueDate(TaskMapper.parseDateTimeSafe(scalarText(parser, value)));
+                case "completionDate" -> dto.setCompletionDate(TaskMapper.parseDateTimeSafe(scalarText(parser, value)));
+                case "assignee" -> dto.setAssignee(scalarText(parser, value));
+                case "taskState" -> taskState = scalarText(parser, value);
+                case "candidateGroups" -> dto.setCandidateGroup(firstArrayText(parser, value));
+                case "variables" -> readVariables(parser, value, variables);
+                case "sortValues" -> sortValues = value == JsonToken.START_ARRAY
+                        ? parser.readValueAs(List.class) : skip(parser);
+                default -> parser.skipChildren();
+            }
+        }
+
+        dto.setTaskId(TaskMapper.firstNonNullString(taskId, taskIdAlt));
+        dto.setProcessInstanceId(TaskMapper.firstNonNullString(instanceId, instanceKey));
+        dto.setProcessDefinitionId(TaskMapper.firstNonNullString(definitionId, definitionKey));
+        dto.setCreatedDate(TaskMapper.parseDateTimeSafe(TaskMapper.firstNonNullString(creationDate, createdDate)));
+        dto.setVariables(variables);
+        TaskMapper.applyState(dto, taskState);
+        dto.setOutcome(TaskMapper.outcome(variables));
+        return new TaskItem(dto, sortValues);
+    }
+
+    // Tasklist sends variables as [{name, value}, ...]; a plain object is accepted as well
+    private void readVariables(JsonParser parser, JsonToken token, Map<String, Object> into) throws IOException {
+        if (token == JsonToken.START_ARRAY) {
+            JsonToken element;
+            while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+                if (element != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                String name = null;
+                Object value = null;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+                    if ("name".equals(field)) {
+                        name = scalarText(parser, valueToken);
+                    } else if ("value".equals(field)) {
+                        value = readValue(parser, valueToken);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                if (name != null && !name.isEmpty()) {
+                    into.put(name, value);
+                }
+            }
+        } else if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                into.put(name, readValue(parser, parser.nextToken()));
+            }
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    // Same Java types the untyped Map path produces, with string values cleaned the same way
+    private Object readValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> TaskMapper.cleanVariableValue(parser.getText());
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> parser.readValueAs(Object.class);
+        };
+    }
+
+    private String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) return null;
+        if (token.isScalarValue()) return parser.getText();
+        parser.skipChildren();
+        return null;
+    }
+
+    private String firstArrayText(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        String first = null;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY && element != null) {
+            if (first == null && element == JsonToken.VALUE_STRING) {
+                first = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return first;
+    }
+
+    private List<Object> skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    private record TaskItem(TaskDTO dto, List<Object> sortValues) {
+    }
+
+    /** One /v1/tasks/search response plus the searchAfter values of its last item. */
+    public record Page(List<TaskDTO> tasks, List<Object> sortValues) {
+        public static final Page EMPTY = new Page(Collections.emptyList(), null);
+
+        public boolean hasNext(int requestedPageSize) {
+            return sortValues != null && tasks.size() >= requestedPageSize;
+        }
+    }
+}
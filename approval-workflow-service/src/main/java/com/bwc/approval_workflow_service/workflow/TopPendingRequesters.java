@@ -0,0 +1,106 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+/**
+ * Employees with the most pending approval tasks, kept up to date from task lifecycle events.
+ *
+ * Pending counts are exact: a task counts for its requesting employee (the {@code employeeId}
+ * variable) from creation until it is completed or canceled. Employees are kept ordered by count,
+ * and the leading {@code workflow.top-pending.max-size} entries are republished after every change,
+ * so reads return a prepared list instead of counting.
+ */
+@Component
+public class TopPendingRequesters {
+
+    public record Requester(String employeeId, String name, long pending) {
+    }
+
+    private static final Comparator<Requester> MOST_PENDING = Comparator
+            .comparingLong(Requester::pending).reversed()
+            .thenComparing(Requester::employeeId);
+
+    private final int maxSize;
+    private final int defaultSize;
+    private final Map<String, Requester> byEmployee = new HashMap<>();
+    private final TreeSet<Requester> ranking = new TreeSet<>(MOST_PENDING);
+    private volatile List<Requester> top = List.of();
+
+    public TopPendingRequesters(@Value("${workflow.top-pending.size:5}") int defaultSize,
+                                @Value("${workflow.top-pending.max-size:50}") int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+        this.defaultSize = Math.min(Math.max(1, defaultSize), this.maxSize);
+    }
+
+    // The projection's first snapshot counts too: it is the current pending state
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        TaskDTO task = event.getTask();
+        String employeeId = task != null ? TaskProjection.employeeIdOf(task) : null;
+        if (employeeId == null) return;
+
+        switch (event.getType()) {
+            case CREATED -> adjust(employeeId, nameOf(task), 1);
+            // Only tasks that were counted as pending leave the count
+            case COMPLETED, CANCELED -> {
+                if ("CREATED".equals(event.getPreviousStatus())) adjust(employeeId, null, -1);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private synchronized void adjust(String employeeId, String name, long delta) {
+        Requester current = byEmployee.get(employeeId);
+        long pending = (current != null ? current.pending() : 0) + delta;
+        if (current != null) ranking.remove(current);
+
+        if (pending > 0) {
+            String knownName = name != null ? name : current != null ? current.name() : null;
+            Requester updated = new Requester(employeeId, knownName, pending);
+            byEmployee.put(employeeId, updated);
+            ranking.add(updated);
+        } else {
+            byEmployee.remove(employeeId);
+        }
+
+        List<Requester> leaders = new ArrayList<>(Math.min(maxSize, ranking.size()));
+        for (Requester r : ranking) {
+            if (leaders.size() == maxSize) break;
+            leaders.add(r);
+        }
+        top = List.copyOf(leaders);
+    }
+
+    private static String nameOf(TaskDTO task) {
+        return task.getEmployeeProfile() != null ? task.getEmployeeProfile().getFullName() : null;
+    }
+
+    // === Reads ===
+
+    public List<Requester> top() {
+        return top(defaultSize);
+    }
+
+    // Up to n requesters, most pending first; n is capped at workflow.top-pending.max-size
+    public List<Requester> top(int n) {
+        List<Requester> leaders = top;
+        return leaders.subList(0, Math.min(Math.max(0, n), leaders.size()));
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+}
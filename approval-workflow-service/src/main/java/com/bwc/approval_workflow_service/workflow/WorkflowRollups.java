@@ -0,0 +1,218 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.SlaBreachEvent;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Daily workflow counters per role: new requests, completions and SLA breaches.
+ *
+ * Counters are updated from {@link TaskLifecycleEvent}s as the task projection observes
+ * tasks being created and completed, so trend and summary reads never touch Tasklist. The
+ * projection's first snapshot seeds them with the tasks it already holds. A task counts as
+ * new on its creation day, as completed on its completion day, and as an SLA breach on its
+ * deadline's day once {@link SlaBreachTracker} reports it overdue or it completes late. Each task
+ * is counted at most once as new and once as completed, however often the projection re-adds it.
+ *
+ * Counters live in memory only. After a restart, days before the start day hold just what the
+ * projection re-seeded (open tasks and its retained completions), so trend rows for them are
+ * marked {@code complete: false}. Days older than {@code workflow.rollups.retention-days} are dropped.
+ */
+@Component
+@Slf4j
+public class WorkflowRollups {
+
+    public static final List<String> ROLES = List.of("MANAGER", "FINANCE", "HR", "TRAVEL_DESK");
+
+    private static final Map<String, String> ROLE_BY_GROUP = Map.of(
+            "managers", "MANAGER",
+            "finance-approvers", "FINANCE",
+            "hr-compliance-team", "HR",
+            "travel-desk-team", "TRAVEL_DESK");
+
+    private final TaskProjection projection;
+    private final int retentionDays;
+    private final Map<LocalDate, Map<String, DayCounters>> days = new ConcurrentHashMap<>();
+    // Tasks already counted as breached, so a late completion is not counted twice
+    private final Set<String> breached = ConcurrentHashMap.newKeySet();
+    // Tasks already counted as new / completed; bounded, oldest entries go first
+    private final Set<String> countedNew;
+    private final Set<String> countedCompleted;
+    // First day whose counters saw every event; earlier days only hold the projection's seed
+    private final LocalDate completeFrom = LocalDate.now();
+
+    public WorkflowRollups(TaskProjection projection,
+                           @Value("${workflow.rollups.retention-days:90}") int retentionDays,
+                           @Value("${workflow.rollups.dedupe-max-size:200000}") long dedupeMaxSize) {
+        this.projection = projection;
+        this.retentionDays = retentionDays;
+        this.countedNew = boundedSet(dedupeMaxSize, retentionDays);
+        this.countedCompleted = boundedSet(dedupeMaxSize, retentionDays);
+    }
+
+    private static Set<String> boundedSet(long maxSize, int retentionDays) {
+        Cache<String, Boolean> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofDays(retentionDays))
+                .build();
+        return Collections.newSetFromMap(cache.asMap());
+    }
+
+    // === Updates ===
+
+    // Called under the projection's write lock, so events for one task arrive in order
+    @EventListener
+    public void onTaskLifecycle(TaskLifecycleEvent event) {
+        TaskDTO task = event.getTask();
+        String role = task != null ? roleOf(task.getCandidateGroup()) : null;
+        if (role == null) return;
+
+        switch (event.getType()) {
+            case CREATED -> countNew(task, role, event);
+            case COMPLETED -> {
+                // A task first seen already completed is counted as new here
+                countNew(task, role, event);
+                if (!countedCompleted.add(task.getTaskId())) return;
+                counters(dayOf(task.getCompletionDate(), event), role).completed.increment();
+                // Completed late before the tracker's next tick, or seen for the first time already completed
+                LocalDateTime completedAt = task.getCompletionDate() != null ? task.getCompletionDate() : event.getOccurredAt();
+                LocalDateTime deadline = SlaBreachTracker.deadlineOf(task);
+                if (deadline != null && completedAt.isAfter(deadline)) {
+                    recordBreach(task.getTaskId(), role, deadline);
+                }
+                breached.remove(task.getTaskId());
+            }
+            case CANCELED -> breached.remove(task.getTaskId());
+            default -> {
+            }
+        }
+    }
+
+    // Open tasks that pass their deadline, reported by the SLA breach tracker
+    @EventListener
+    public void onSlaBreach(SlaBreachEvent event) {
+        if (event.getRole() == null || event.getDeadline() == null) return;
+        recordBreach(event.getTask().getTaskId(), event.getRole(), event.getDeadline());
+    }
+
+    @Scheduled(cron = "${workflow.rollups.trim-cron:0 5 0 * * *}")
+    public void trim() {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+        days.keySet().removeIf(day -> day.isBefore(cutoff));
+    }
+
+    private void countNew(TaskDTO task, String role, TaskLifecycleEvent event) {
+        if (countedNew.add(task.getTaskId())) {
+            counters(dayOf(task.getCreatedDate(), event), role).newRequests.increment();
+        }
+    }
+
+    private void recordBreach(String taskId, String role, LocalDateTime deadline) {
+        if (breached.add(taskId)) {
+            counters(deadline.toLocalDate(), role).slaBreaches.increment();
+        }
+    }
+
+    private DayCounters counters(LocalDate day, String role) {
+        return days.computeIfAbsent(day, d -> new ConcurrentHashMap<>())
+                .computeIfAbsent(role, r -> new DayCounters());
+    }
+
+    private static LocalDate dayOf(LocalDateTime timestamp, TaskLifecycleEvent event) {
+        return (timestamp != null ? timestamp : event.getOccurredAt()).toLocalDate();
+    }
+
+    // === Reads ===
+
+    public static String roleOf(String candidateGroup) {
+        return candidateGroup != null ? ROLE_BY_GROUP.get(candidateGroup) : null;
+    }
+
+    public static String groupOf(String role) {
+        return ROLE_BY_GROUP.entrySet().stream()
+                .filter(e -> e.getValue().equalsIgnoreCase(role))
+                .map(Map.Entry::getKey)
+                .findFirst().orElse(null);
+    }
+
+    // One row per day in [from, to], summed over the given roles; days without activity are zero
+    // and days before completeFrom() are flagged incomplete
+    public List<Map<String, Object>> trend(Collection<String> roles, LocalDate from, LocalDate to) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            rows.add(day(roles, day));
+        }
+        return rows;
+    }
+
+    // The given roles' counters for one day, as a trend row
+    public Map<String, Object> day(Collection<String> roles, LocalDate day) {
+        long newRequests = 0, completed = 0, slaBreaches = 0;
+        Map<String, DayCounters> byRole = days.getOrDefault(day, Map.of());
+        for (String role : roles) {
+            DayCounters counters = byRole.get(role);
+            if (counters == null) continue;
+            newRequests += counters.newRequests.sum();
+            completed += counters.completed.sum();
+            slaBreaches += counters.slaBreaches.sum();
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("date", day);
+        row.put("newRequests", newRequests);
+        row.put("completed", completed);
+        row.put("slaBreaches", slaBreaches);
+        row.put("complete", !day.isBefore(completeFrom));
+        return row;
+    }
+
+    public LocalDate completeFrom() {
+        return completeFrom;
+    }
+
+    // Completions for the role across every retained day
+    public long completed(String role) {
+        return days.values().stream()
+                .map(byRole -> byRole.get(role))
+                .filter(counters -> counters != null)
+                .mapToLong(counters -> counters.completed.sum())
+                .sum();
+    }
+
+    // Tasks currently open for the role, straight from the projection
+    public long pending(String role) {
+        String group = groupOf(role);
+        return group != null ? projection.find(null, group, "CREATED").size() : 0;
+    }
+
+    public boolean isWarm() {
+        return projection.isWarm();
+    }
+
+    private static final class DayCounters {
+        private final LongAdder newRequests = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder slaBreaches = new LongAdder();
+    }
+}
@@ -0,0 +1,91 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.bwc.approval_workflow_service.client.EmployeeServiceClient;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EnhancedUserTaskServiceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private List<Map<String, Object>> searchBodies;
+    private EnhancedUserTaskService service;
+
+    @BeforeEach
+    void setUp() {
+        searchBodies = new CopyOnWriteArrayList<>();
+
+        // Records every /v1/tasks/search body and answers with an empty page
+        WebClient tasklist = WebClient.builder()
+                .exchangeFunction(request -> {
+                    MockClientHttpRequest captured = new MockClientHttpRequest(request.method(), request.url());
+                    return request.writeTo(captured, ExchangeStrategies.withDefaults())
+                            .then(captured.getBodyAsString())
+                            .map(body -> {
+                                searchBodies.add(read(body));
+                                return ClientResponse.create(HttpStatus.OK)
+                                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                        .body("[]")
+                                        .build();
+                            });
+                })
+                .build();
+
+        service = new EnhancedUserTaskService(tasklist,
+                mock(EmployeeServiceClient.class),
+                mock(ProcessVariableClient.class),
+                mock(TaskEnrichmentCache.class),
+                mock(TaskProjection.class),
+                mock(InboxLoadCoalescer.class),
+                mock(EnrichmentExecutor.class),
+                mock(CompletedTaskHistory.class),
+                mock(OrgChartCache.class));
+        ReflectionTestUtils.setField(service, "pageSize", 100);
+        ReflectionTestUtils.setField(service, "exportMaxTasks", 1000);
+    }
+
+    @Test
+    void completedProjectionLoadSortsOnCompletionTime() {
+        service.loadTasksForProjection("COMPLETED", 1000);
+
+        assertThat(searchBodies).singleElement().satisfies(body -> {
+            assertThat(body).containsEntry("state", "COMPLETED");
+            assertThat(body.get("sort")).isEqualTo(List.of(Map.of("field", "completionTime", "order", "DESC")));
+        });
+    }
+
+    @Test
+    void completedExportSortsOnCompletionTime() {
+        service.exportTasks("managers", "COMPLETED", null, null).collectList().block();
+
+        assertThat(searchBodies).singleElement()
+                .satisfies(body -> assertThat(body.get("sort"))
+                        .isEqualTo(List.of(Map.of("field", "completionTime", "order", "DESC"))));
+    }
+
+    private static Map<String, Object> read(String body) {
+        try {
+            return MAPPER.readValue(body, new TypeReference<Map<String, Object>>() { });
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
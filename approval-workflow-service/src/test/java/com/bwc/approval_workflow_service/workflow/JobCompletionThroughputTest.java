@@ -0,0 +1,133 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.api.worker.JobClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Drives validate-input through a stub gateway that holds every acknowledgement until the test
+ * releases it, with the same 4 handler threads as {@code zeebe.client.worker.threads}. Handlers must
+ * return without waiting for the gateway, so all jobs are handled (and their completions in flight)
+ * before the first acknowledgement; throughput numbers are left to the JMH benchmarks.
+ */
+class JobCompletionThroughputTest {
+
+    private static final int WORKER_THREADS = 4;
+    private static final int JOBS = 200;
+
+    private ExecutorService workerThreads;
+    private List<StubFuture<CompleteJobResponse>> pendingAcks;
+    private AtomicInteger acknowledged;
+    private SimpleMeterRegistry meterRegistry;
+    private JobClient client;
+    private ActivatedJob job;
+    private CompleteJobResponse ack;
+
+    @BeforeEach
+    void setUp() {
+        workerThreads = Executors.newFixedThreadPool(WORKER_THREADS);
+        pendingAcks = new CopyOnWriteArrayList<>();
+        acknowledged = new AtomicInteger();
+        meterRegistry = new SimpleMeterRegistry();
+        ack = mock(CompleteJobResponse.class);
+
+        CompleteJobCommandStep1 command = mock(CompleteJobCommandStep1.class);
+        when(command.variables(anyMap())).thenReturn(command);
+        when(command.send()).thenAnswer(invocation -> heldGatewayResponse());
+
+        client = mock(JobClient.class);
+        when(client.newCompleteCommand(any(ActivatedJob.class))).thenReturn(command);
+
+        job = mock(ActivatedJob.class);
+        when(job.getKey()).thenReturn(1L);
+        when(job.getType()).thenReturn("validate-input");
+        when(job.getRetries()).thenReturn(3);
+        when(job.getVariablesAsMap()).thenReturn(Map.of(
+                "travelRequestId", "TR-1",
+                "employeeId", "E-1",
+                "destination", "Domestic",
+                "requestedAmount", 1200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerThreads.shutdownNow();
+    }
+
+    @Test
+    void handlersReturnBeforeAnyCompletionIsAcknowledged() throws Exception {
+        JobActivationLatency activationLatency = new JobActivationLatency(meterRegistry, Duration.ofMinutes(5));
+        EnhancedWorkflowWorkers workers = new EnhancedWorkflowWorkers(
+                mock(EnhancedUserTaskService.class),
+                mock(TaskProjection.class),
+                new JobCompletions(meterRegistry, activationLatency, 3, Duration.ofMillis(10)),
+                activationLatency,
+                mock(ManagerAssignmentPool.class));
+
+        CountDownLatch handled = new CountDownLatch(JOBS);
+        for (int i = 0; i < JOBS; i++) {
+            workerThreads.execute(() -> {
+                workers.validateInput(client, job);
+                handled.countDown();
+            });
+        }
+        assertThat(handled.await(30, TimeUnit.SECONDS)).isTrue();
+
+        // Every handler returned while the gateway had acknowledged nothing
+        assertThat(acknowledged.get()).isZero();
+        assertThat(pendingAcks).hasSize(JOBS);
+        assertThat(inFlight()).isEqualTo(JOBS).isGreaterThan(WORKER_THREADS);
+
+        pendingAcks.forEach(response -> {
+            acknowledged.incrementAndGet();
+            response.complete(ack);
+        });
+        assertThat(acknowledged.get()).isEqualTo(JOBS);
+        assertThat(inFlight()).isZero();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("workflow.jobs.commands.in-flight").gauge().value();
+    }
+
+    private ZeebeFuture<CompleteJobResponse> heldGatewayResponse() {
+        StubFuture<CompleteJobResponse> response = new StubFuture<>();
+        pendingAcks.add(response);
+        return response;
+    }
+
+    private static final class StubFuture<T> extends CompletableFuture<T> implements ZeebeFuture<T> {
+        @Override
+        public T join(long timeout, TimeUnit unit) {
+            try {
+                return get(timeout, unit);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
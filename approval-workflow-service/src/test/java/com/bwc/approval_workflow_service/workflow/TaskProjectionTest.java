@@ -0,0 +1,72 @@
+package com.bwc.approval_workflow_service.workflow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.bwc.approval_workflow_service.dto.TaskDTO;
+import com.bwc.approval_workflow_service.event.TaskLifecycleEvent;
+
+class TaskProjectionTest {
+
+    private static final int RETENTION = 3;
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    private List<TaskLifecycleEvent> events;
+    private TaskProjection projection;
+
+    @BeforeEach
+    void setUp() {
+        events = new ArrayList<>();
+        projection = new TaskProjection(event -> events.add((TaskLifecycleEvent) event));
+        ReflectionTestUtils.setField(projection, "completedRetention", RETENTION);
+    }
+
+    @Test
+    void completionsBeyondRetentionAreNotReAddedOnEveryReconcile() {
+        // Newest first, as the reconciler loads them, and longer than the retention
+        List<TaskDTO> completed = List.of(completed("t5", 5), completed("t4", 4), completed("t3", 3),
+                completed("t2", 2), completed("t1", 1));
+
+        projection.reconcile(List.of(), completed, true);
+        assertThat(completedEvents()).hasSize(RETENTION);
+        events.clear();
+
+        projection.reconcile(List.of(), completed, true);
+        assertThat(completedEvents()).isEmpty();
+        assertThat(projection.findByState("COMPLETED")).extracting(TaskDTO::getTaskId)
+                .containsExactlyInAnyOrder("t5", "t4", "t3");
+    }
+
+    @Test
+    void newCompletionEvictsTheOldestRetainedTask() {
+        projection.reconcile(List.of(), List.of(completed("t3", 3), completed("t2", 2), completed("t1", 1)), true);
+        events.clear();
+
+        projection.reconcile(List.of(), List.of(completed("t4", 4), completed("t3", 3), completed("t2", 2)), true);
+
+        assertThat(completedEvents()).extracting(e -> e.getTask().getTaskId()).containsExactly("t4");
+        assertThat(projection.get("t1")).isNull();
+        assertThat(projection.get("t4")).isNotNull();
+    }
+
+    private List<TaskLifecycleEvent> completedEvents() {
+        return events.stream().filter(e -> e.getType() == TaskLifecycleEvent.Type.COMPLETED).toList();
+    }
+
+    private static TaskDTO completed(String taskId, int order) {
+        return TaskDTO.builder()
+                .taskId(taskId)
+                .status("COMPLETED")
+                .candidateGroup("managers")
+                .createdDate(NOW.minusDays(1))
+                .completionDate(NOW.plusMinutes(order))
+                .build();
+    }
+}
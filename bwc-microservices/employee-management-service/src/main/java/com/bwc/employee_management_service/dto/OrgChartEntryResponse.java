@@ -0,0 +1,20 @@
+package com.bwc.employee_management_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One reporting line of the org chart; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartEntryResponse {
+    private UUID employeeId;
+    private UUID managerId;
+    private String level;
+    private Boolean active;
+    private LocalDateTime updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.bwc.employee_management_service.repository;
 
+import com.bwc.employee_management_service.dto.OrgChartEntryResponse;
 import com.bwc.employee_management_service.entity.Employee;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,4 +43,24 @@ public interface EmployeeRepository
     // ✅ New query to fetch employees by role name
     @Query("SELECT e FROM Employee e JOIN e.roles r WHERE r.roleName = :roleName")
     List<Employee> findByRoleName(@Param("roleName") String roleName);
+
+    // ✅ Batch lookup: roles, projects and manager loaded in the same query
+    @Query("SELECT DISTINCT e FROM Employee e "
+            + "LEFT JOIN FETCH e.roles "
+            + "LEFT JOIN FETCH e.projects "
+            + "LEFT JOIN FETCH e.manager "
+            + "WHERE e.employeeId IN :ids")
+    List<Employee> findAllByIdWithRelations(@Param("ids") Collection<UUID> ids);
+
+    // ✅ Org chart: one (employee, manager) row per employee, no entities loaded
+    @Query("SELECT new com.bwc.employee_management_service.dto.OrgChartEntryResponse("
+            + "e.employeeId, m.employeeId, e.level, e.isActive, e.updatedAt) "
+            + "FROM Employee e LEFT JOIN e.manager m")
+    List<OrgChartEntryResponse> findOrgChart();
+
+    // ✅ Rows changed at or after the given time, for incremental org chart refreshes
+    @Query("SELECT new com.bwc.employee_management_service.dto.OrgChartEntryResponse("
+            + "e.employeeId, m.employeeId, e.level, e.isActive, e.updatedAt) "
+            + "FROM Employee e LEFT JOIN e.manager m WHERE e.updatedAt >= :since")
+    List<OrgChartEntryResponse> findOrgChartUpdatedSince(@Param("since") LocalDateTime since);
 }
@@ -1,5 +1,7 @@
 package com.bwc.employee_management_service.service;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import com.bwc.common.exception.BusinessException;
 import com.bwc.common.exception.ResourceNotFoundException;
 import com.bwc.employee_management_service.dto.EmployeeRequest;
 import com.bwc.employee_management_service.dto.EmployeeResponse;
+import com.bwc.employee_management_service.dto.OrgChartEntryResponse;
 import com.bwc.employee_management_service.dto.ProjectResponse;
 import com.bwc.employee_management_service.dto.SearchRequest;
 import com.bwc.employee_management_service.entity.Employee;
@@ -384,6 +387,25 @@ public class EmployeeService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EmployeeResponse> getEmployeesByIds(Collection<UUID> ids) {
+        log.info("Fetching {} employees by ID", ids.size());
+        if (ids.isEmpty()) return List.of();
+        return employeeRepository.findAllByIdWithRelations(ids)
+                .stream()
+                .map(employeeMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    // Whole org chart, or only the rows changed since the given time
+    @Transactional(readOnly = true)
+    public List<OrgChartEntryResponse> getOrgChart(LocalDateTime updatedSince) {
+        List<OrgChartEntryResponse> entries = updatedSince == null
+                ? employeeRepository.findOrgChart()
+                : employeeRepository.findOrgChartUpdatedSince(updatedSince);
+        log.info("Fetched {} org chart entries (updatedSince={})", entries.size(), updatedSince);
+        return entries;
+    }
 
     private Pageable buildPageable(SearchRequest searchRequest) {
         Sort sort = Sort.by(Sort.Direction.fromString(
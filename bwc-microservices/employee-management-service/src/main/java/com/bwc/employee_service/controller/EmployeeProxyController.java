@@ -1,14 +1,18 @@
 package com.bwc.employee_service.controller;
 
 import com.bwc.employee_management_service.dto.EmployeeResponse;
+import com.bwc.employee_management_service.dto.OrgChartEntryResponse;
 import com.bwc.employee_management_service.service.EmployeeService;
 import com.bwc.employee_service.dto.EmployeeProxyDTO;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -21,6 +25,9 @@ public class EmployeeProxyController {
 
     private final EmployeeService employeeService;
 
+    @Value("${employee.proxy.batch-max-size:200}")
+    private int batchMaxSize;
+
     private final Cache<UUID, EmployeeProxyDTO> employeeProxyCache = Caffeine.newBuilder()
             .expireAfterWrite(2, TimeUnit.MINUTES)
             .maximumSize(500)
@@ -36,16 +43,7 @@ public class EmployeeProxyController {
                 throw new RuntimeException("Employee not found with ID: " + key);
             }
 
-            return EmployeeProxyDTO.builder()
-                    .employeeId(emp.getEmployeeId())
-                    .fullName(emp.getFullName())
-                    .email(emp.getEmail())
-                    .department(emp.getDepartment())
-                    .level(emp.getLevel())
-                    .managerId(emp.getManagerId())
-                    .roles(emp.getRoles() != null ? emp.getRoles() : Set.of())
-                    .projectIds(emp.getProjectIds() != null ? emp.getProjectIds() : Set.of())
-                    .build();
+            return toProxy(emp);
         });
     }
 
@@ -56,17 +54,58 @@ public class EmployeeProxyController {
         List<EmployeeResponse> employees = employeeService.getEmployeesByRole(role);
 
         return employees.stream()
-                .map((EmployeeResponse emp) -> EmployeeProxyDTO.builder()
-                        .employeeId(emp.getEmployeeId())
-                        .fullName(emp.getFullName())
-                        .email(emp.getEmail())
-                        .department(emp.getDepartment())
-                        .level(emp.getLevel())
-                        .managerId(emp.getManagerId())
-                        .roles(emp.getRoles() != null ? emp.getRoles() : Set.of())
-                        .projectIds(emp.getProjectIds() != null ? emp.getProjectIds() : Set.of())
-                        .build())
+                .map(this::toProxy)
+                .collect(Collectors.toList());
+    }
+
+    // ✅ Batch lookup for enrichment fan-out: cached proxies are reused, the rest load in one query.
+    // Unknown IDs are omitted from the response rather than failing the whole batch.
+    @PostMapping("/proxy/batch")
+    public List<EmployeeProxyDTO> getProxies(@RequestBody List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        Set<UUID> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        if (unique.size() > batchMaxSize) {
+            throw new IllegalArgumentException("At most " + batchMaxSize + " employee IDs per batch, got " + unique.size());
+        }
+
+        Map<UUID, EmployeeProxyDTO> found = new HashMap<>(employeeProxyCache.getAllPresent(unique));
+        List<UUID> missing = unique.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+
+        if (!missing.isEmpty()) {
+            log.info("🔍 Batch cache miss → Fetching {} of {} employee proxies", missing.size(), unique.size());
+            for (EmployeeResponse emp : employeeService.getEmployeesByIds(missing)) {
+                EmployeeProxyDTO proxy = toProxy(emp);
+                employeeProxyCache.put(proxy.getEmployeeId(), proxy);
+                found.put(proxy.getEmployeeId(), proxy);
+            }
+        }
+
+        return unique.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    // ✅ Org chart for in-process manager resolution: full on first load, then only rows changed since updatedSince
+    @GetMapping("/proxy/org-chart")
+    public List<OrgChartEntryResponse> getOrgChart(
+            @RequestParam(value = "updatedSince", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince) {
+        return employeeService.getOrgChart(updatedSince);
+    }
+
+    private EmployeeProxyDTO toProxy(EmployeeResponse emp) {
+        return EmployeeProxyDTO.builder()
+                .employeeId(emp.getEmployeeId())
+                .fullName(emp.getFullName())
+                .email(emp.getEmail())
+                .department(emp.getDepartment())
+                .level(emp.getLevel())
+                .managerId(emp.getManagerId())
+                .roles(emp.getRoles() != null ? emp.getRoles() : Set.of())
+                .projectIds(emp.getProjectIds() != null ? emp.getProjectIds() : Set.of())
+                .build();
+    }
 }
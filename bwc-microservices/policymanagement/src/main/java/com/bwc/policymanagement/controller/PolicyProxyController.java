@@ -1,11 +1,13 @@
 package com.bwc.policymanagement.controller;
 
 import com.bwc.policymanagement.dto.PolicyProxyFullDTO;
+import com.bwc.policymanagement.dto.PolicyTableEntryDTO;
 import com.bwc.policymanagement.service.PolicyQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -22,4 +24,10 @@ public class PolicyProxyController {
         // If grade omitted, return active policy basic info
         return ResponseEntity.ok(policyQueryService.getPolicyByEmployee(employeeId, grade));
     }
+
+    // Whole active policy table in one call, for services that evaluate policy locally
+    @GetMapping("/active/table")
+    public ResponseEntity<List<PolicyTableEntryDTO>> getActivePolicyTable() {
+        return ResponseEntity.ok(policyQueryService.getActivePolicyTable());
+    }
 }
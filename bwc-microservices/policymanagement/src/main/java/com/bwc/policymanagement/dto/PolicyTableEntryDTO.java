@@ -0,0 +1,19 @@
+package com.bwc.policymanagement.dto;
+
+import lombok.*;
+
+import java.util.UUID;
+
+// One (city, grade) cell of the active policy table; built directly by a JPQL constructor expression
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyTableEntryDTO {
+    private String city;
+    private UUID categoryId;
+    private String categoryName;
+    private Integer year;
+    private String grade;
+    private double lodgingCompanyRate;
+    private double lodgingOwnRate;
+}
@@ -1,12 +1,14 @@
 // src/main/java/com/bwc/policymanagement/repository/GradePolicyRepository.java
 package com.bwc.policymanagement.repository;
 
+import com.bwc.policymanagement.dto.PolicyTableEntryDTO;
 import com.bwc.policymanagement.entity.GradePolicy;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,4 +31,15 @@ public interface GradePolicyRepository extends JpaRepository<GradePolicy, UUID>
            "LEFT JOIN FETCH tm.allowedClasses " +
            "WHERE gp.id = :id")
     Optional<GradePolicy> findByIdWithDetails(@Param("id") UUID id);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.bwc.policymanagement.dto.PolicyTableEntryDTO(" +
+           "c.name, cc.id, cc.name, p.year, gp.grade, " +
+           "gp.lodgingAllowance.companyRate, gp.lodgingAllowance.ownRate) " +
+           "FROM GradePolicy gp " +
+           "JOIN gp.policy p " +
+           "JOIN p.category cc " +
+           "JOIN cc.cities c " +
+           "WHERE p.active = true " +
+           "ORDER BY c.name, gp.grade")
+    List<PolicyTableEntryDTO> findActivePolicyTable();
+}
@@ -1,9 +1,13 @@
 package com.bwc.policymanagement.service;
 
 import com.bwc.policymanagement.dto.PolicyProxyFullDTO;
+import com.bwc.policymanagement.dto.PolicyTableEntryDTO;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface PolicyQueryService {
     PolicyProxyFullDTO getPolicyByEmployee(UUID employeeId, String grade);
+
+    List<PolicyTableEntryDTO> getActivePolicyTable();
 }
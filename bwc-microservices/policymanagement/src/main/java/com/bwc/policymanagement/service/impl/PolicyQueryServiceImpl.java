@@ -1,13 +1,16 @@
 package com.bwc.policymanagement.service.impl;
 
 import com.bwc.policymanagement.dto.PolicyProxyFullDTO;
+import com.bwc.policymanagement.dto.PolicyTableEntryDTO;
 import com.bwc.policymanagement.entity.*;
+import com.bwc.policymanagement.repository.GradePolicyRepository;
 import com.bwc.policymanagement.repository.PolicyRepository;
 import com.bwc.policymanagement.service.PolicyQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -16,6 +19,7 @@ import java.util.stream.Collectors;
 public class PolicyQueryServiceImpl implements PolicyQueryService {
 
     private final PolicyRepository policyRepository;
+    private final GradePolicyRepository gradePolicyRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -58,4 +62,11 @@ public class PolicyQueryServiceImpl implements PolicyQueryService {
 
         return dto;
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PolicyTableEntryDTO> getActivePolicyTable() {
+        // Flat rows of every active policy: one per (city, grade), no entity graphs loaded
+        return gradePolicyRepository.findActivePolicyTable();
+    }
 }
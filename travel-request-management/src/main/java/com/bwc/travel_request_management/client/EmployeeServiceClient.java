@@ -4,7 +4,10 @@ import com.bwc.travel_request_management.client.dto.EmployeeProxyDTO;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "employee-service", url = "${services.employee.url}")
@@ -12,4 +15,8 @@ public interface EmployeeServiceClient {
 
     @GetMapping("/api/v1/employees/proxy/{id}")
     EmployeeProxyDTO getEmployee(@PathVariable("id") UUID id);
+
+    // Unknown IDs are left out of the result
+    @PostMapping("/api/v1/employees/proxy/batch")
+    List<EmployeeProxyDTO> getEmployees(@RequestBody List<UUID> ids);
 }